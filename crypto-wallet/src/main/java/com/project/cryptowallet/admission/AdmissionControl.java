@@ -0,0 +1,38 @@
+package com.project.cryptowallet.admission;
+
+import java.util.List;
+
+/**
+ * The per-endpoint limiters, with priority separation between them: low-priority work is
+ * shed as soon as any high-priority endpoint is at its limit, so reads keep the capacity.
+ */
+public class AdmissionControl {
+
+    private final List<AdmissionLimiter> limiters;
+
+    public AdmissionControl(List<AdmissionLimiter> limiters) {
+        this.limiters = List.copyOf(limiters);
+    }
+
+    /**
+     * Admit a request to an endpoint.
+     *
+     * @param limiter The endpoint's limiter.
+     * @return The permit, to be released when the request completes.
+     * @throws AdmissionRejectedException if the request is shed or not admitted in time.
+     */
+    public AdmissionLimiter.Permit acquire(AdmissionLimiter limiter) {
+        if (limiter.getPriority() == AdmissionLimiter.Priority.LOW) {
+            for (AdmissionLimiter other : limiters) {
+                if (other.getPriority() == AdmissionLimiter.Priority.HIGH && other.isSaturated()) {
+                    throw limiter.rejectShed();
+                }
+            }
+        }
+        return limiter.acquire();
+    }
+
+    public List<AdmissionLimiter> getLimiters() {
+        return limiters;
+    }
+}
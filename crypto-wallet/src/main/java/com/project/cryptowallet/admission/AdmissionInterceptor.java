@@ -0,0 +1,64 @@
+package com.project.cryptowallet.admission;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+
+/**
+ * Admits requests to one endpoint through its limiter before the handler runs.
+ * Rejections are answered immediately: 429 when the endpoint's own queue is full,
+ * 503 when the request timed out in the queue or was shed for higher-priority work,
+ * both with a Retry-After header.
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionInterceptor.class);
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionControl admissionControl;
+    private final AdmissionLimiter limiter;
+
+    public AdmissionInterceptor(AdmissionControl admissionControl, AdmissionLimiter limiter) {
+        this.admissionControl = admissionControl;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+        try {
+            request.setAttribute(PERMIT_ATTRIBUTE, admissionControl.acquire(limiter));
+            return true;
+        } catch (AdmissionRejectedException e) {
+            // Debug only: under overload a line per rejection would add to the problem
+            logger.debug("{}", e.getMessage());
+            HttpStatus status = e.getReason() == AdmissionRejectedException.Reason.QUEUE_FULL
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.SERVICE_UNAVAILABLE;
+            response.setStatus(status.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit instanceof AdmissionLimiter.Permit admitted) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admitted.release(ex == null && response.getStatus() < 500);
+        }
+    }
+}
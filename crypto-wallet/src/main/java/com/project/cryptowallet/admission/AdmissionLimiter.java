@@ -0,0 +1,201 @@
+package com.project.cryptowallet.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit for one endpoint, with a bounded FIFO-ish wait queue.
+ * A request is admitted while fewer than {@link GradientLimit#getLimit()} requests are in flight;
+ * otherwise it waits up to the maximum wait time for a slot, unless the queue is already full.
+ */
+public class AdmissionLimiter {
+
+    public enum Priority {
+        /** Interactive reads: admitted first, never shed for other endpoints. */
+        HIGH,
+        /** Background or bulk work: shed while any high-priority endpoint is saturated. */
+        LOW
+    }
+
+    private final String name;
+    private final Priority priority;
+    private final GradientLimit limit;
+    private final int queueSize;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition slotFreed = lock.newCondition();
+    private int inFlight;
+    private int waiting;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * @param name          Name used in logs, health details and rejections (e.g. the path).
+     * @param priority      Priority class of the endpoint.
+     * @param limit         The adaptive concurrency limit.
+     * @param queueSize     Maximum number of requests waiting for a slot; 0 rejects as soon as the limit is reached.
+     * @param maxWaitMillis Maximum time a request waits for a slot.
+     */
+    public AdmissionLimiter(String name, Priority priority, GradientLimit limit, int queueSize, long maxWaitMillis) {
+        if (queueSize < 0 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("queueSize and maxWaitMillis must not be negative");
+        }
+        this.name = name;
+        this.priority = priority;
+        this.limit = limit;
+        this.queueSize = queueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    /**
+     * Admit a request, waiting for a slot if needed.
+     *
+     * @return The permit, to be released when the request completes.
+     * @throws AdmissionRejectedException if the queue is full or no slot was freed in time.
+     */
+    public Permit acquire() {
+        lock.lock();
+        try {
+            // Newcomers do not overtake requests that are already waiting
+            if (waiting == 0 && inFlight < limit.getLimit()) {
+                return admit();
+            }
+            if (waiting >= queueSize || maxWaitNanos == 0) {
+                throw reject(AdmissionRejectedException.Reason.QUEUE_FULL);
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit.getLimit()) {
+                    if (remaining <= 0) {
+                        throw reject(AdmissionRejectedException.Reason.TIMEOUT);
+                    }
+                    remaining = slotFreed.awaitNanos(remaining);
+                }
+                return admit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject(AdmissionRejectedException.Reason.TIMEOUT);
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if the endpoint is at its limit or has requests waiting.
+     */
+    public boolean isSaturated() {
+        lock.lock();
+        try {
+            return waiting > 0 || inFlight >= limit.getLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Build a rejection for a request shed in favour of high-priority endpoints.
+     */
+    AdmissionRejectedException rejectShed() {
+        lock.lock();
+        try {
+            return reject(AdmissionRejectedException.Reason.SHED);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Build a rejection for this endpoint with a retry delay of about the time needed to drain its queue.
+     * Must be called with the lock held, since it reads the queue length.
+     */
+    private AdmissionRejectedException reject(AdmissionRejectedException.Reason reason) {
+        rejected.increment();
+        double drainMillis = limit.getShortRttMillis() * (waiting + 1) / Math.max(1, limit.getLimit());
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(drainMillis / 1000));
+        return new AdmissionRejectedException(name, reason, retryAfterSeconds);
+    }
+
+    private Permit admit() {
+        inFlight++;
+        admitted.increment();
+        return new Permit(inFlight, System.nanoTime());
+    }
+
+    private void release(Permit permit, boolean success) {
+        if (success) {
+            limit.onSample(System.nanoTime() - permit.startNanos, permit.inFlightAtStart);
+        }
+        lock.lock();
+        try {
+            inFlight--;
+            // The limit may have grown, so every waiter gets a chance
+            slotFreed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getName() { return name; }
+
+    public Priority getPriority() { return priority; }
+
+    public int getLimit() { return limit.getLimit(); }
+
+    public double getLatencyMillis() { return limit.getShortRttMillis(); }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAdmitted() { return admitted.sum(); }
+
+    public long getRejected() { return rejected.sum(); }
+
+    /**
+     * A slot held by one admitted request. Release it exactly once.
+     */
+    public final class Permit {
+
+        private final int inFlightAtStart;
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(int inFlightAtStart, long startNanos) {
+            this.inFlightAtStart = inFlightAtStart;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @param success Whether the request succeeded; only successful requests feed the latency estimate.
+         */
+        public void release(boolean success) {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdmissionLimiter.this.release(this, success);
+        }
+    }
+}
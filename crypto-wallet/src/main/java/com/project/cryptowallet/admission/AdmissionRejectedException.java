@@ -0,0 +1,33 @@
+package com.project.cryptowallet.admission;
+
+/**
+ * Thrown when a request is not admitted. Carries the reason and a suggested retry delay.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    public enum Reason {
+        /** The endpoint is at its limit and its wait queue is full. */
+        QUEUE_FULL,
+        /** The request waited the maximum time without getting a slot. */
+        TIMEOUT,
+        /** Low-priority work shed while high-priority endpoints are saturated. */
+        SHED
+    }
+
+    private final String limiter;
+    private final Reason reason;
+    private final long retryAfterSeconds;
+
+    public AdmissionRejectedException(String limiter, Reason reason, long retryAfterSeconds) {
+        super(limiter + " rejected the request: " + reason);
+        this.limiter = limiter;
+        this.reason = reason;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public String getLimiter() { return limiter; }
+
+    public Reason getReason() { return reason; }
+
+    public long getRetryAfterSeconds() { return retryAfterSeconds; }
+}
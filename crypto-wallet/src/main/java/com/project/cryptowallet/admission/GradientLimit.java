@@ -0,0 +1,79 @@
+package com.project.cryptowallet.admission;
+
+/**
+ * Concurrency limit that adapts to observed latency, in the style of a gradient limiter.
+ * A short-term latency average is compared with a long-term baseline: while they agree the
+ * limit grows by about sqrt(limit) per sample, and once short-term latency rises above the
+ * baseline (by more than the tolerance) the limit shrinks in proportion, down to half per step.
+ * The limit only grows while at least half of it is in use, so an idle endpoint keeps its limit.
+ */
+public class GradientLimit {
+
+    // Short-term average over roughly the last 10 samples, baseline over roughly the last 500
+    private static final double SHORT_ALPHA = 0.1;
+    private static final double LONG_ALPHA = 0.002;
+    // Latency may grow by this factor over the baseline before the limit is reduced
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+
+    private double limit;
+    private double shortRttNanos = -1;
+    private double longRttNanos = -1;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= initial <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Record the latency of a successful request.
+     *
+     * @param rttNanos Time the request took.
+     * @param inFlight Requests in flight when it was admitted, including itself.
+     */
+    public synchronized void onSample(long rttNanos, int inFlight) {
+        if (shortRttNanos < 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += SHORT_ALPHA * (rttNanos - shortRttNanos);
+        longRttNanos += LONG_ALPHA * (rttNanos - longRttNanos);
+        // After a latency drop, let the baseline catch up instead of growing the limit for minutes
+        if (longRttNanos > 2 * shortRttNanos) {
+            longRttNanos *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double target = limit * gradient + Math.sqrt(limit);
+        if (target > limit && inFlight < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * @return Short-term average latency in milliseconds, or 0 before the first sample.
+     */
+    public synchronized double getShortRttMillis() {
+        return Math.max(0, shortRttNanos) / 1_000_000.0;
+    }
+
+    /**
+     * @return Long-term baseline latency in milliseconds, or 0 before the first sample.
+     */
+    public synchronized double getLongRttMillis() {
+        return Math.max(0, longRttNanos) / 1_000_000.0;
+    }
+}
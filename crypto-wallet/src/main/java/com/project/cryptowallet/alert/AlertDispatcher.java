@@ -0,0 +1,126 @@
+package com.project.cryptowallet.alert;
+
+import com.project.cryptowallet.dto.AlertNotification;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+/**
+ * AlertDispatcher delivers notifications to every AlertSink off the price update path.
+ * Each sink gets a few attempts with a growing back-off; a failing sink never blocks the others.
+ * A sink whose last delivery failed gets a single attempt until it accepts one again, so an outage
+ * does not hold every notification for the whole back-off. Tasks run one at a time in submission order.
+ */
+@Component
+public class AlertDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertDispatcher.class);
+
+    public static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 500;
+    private static final int QUEUE_CAPACITY = 10_000;
+
+    private final List<AlertSink> sinks;
+    private final Set<String> sinkNames = new LinkedHashSet<>();
+    private final Set<String> failingSinks = ConcurrentHashMap.newKeySet();
+    // Queued tasks are dropped on shutdown: fired alerts stay in the outbox and are sent again after a restart
+    private final ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                Thread thread = new Thread(runnable, "alert-dispatch");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public AlertDispatcher(List<AlertSink> sinks) {
+        this.sinks = sinks;
+        sinks.forEach(sink -> sinkNames.add(sink.getName()));
+    }
+
+    /**
+     * Queue a task that runs on the dispatcher thread, typically "mark fired, then deliver".
+     *
+     * @param task The work to run asynchronously.
+     * @return false if the queue is full and the task was not accepted.
+     */
+    public boolean submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    logger.error("Error in alert dispatch task: {}", e.getMessage(), e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            logger.error("Alert dispatch queue is full, rejecting task");
+            return false;
+        }
+    }
+
+    /**
+     * Deliver a notification to the sinks that do not have it yet. Blocks while sinks are retried,
+     * so call it from a dispatcher task or another background thread.
+     *
+     * @param notification The fired alert.
+     * @param skip         Names of the sinks to leave out, e.g. those that already accepted it.
+     * @param maxAttempts  Attempts per sink, with a growing back-off in between.
+     * @return Names of the sinks that accepted the notification in this call.
+     */
+    public Set<String> deliver(AlertNotification notification, Set<String> skip, int maxAttempts) {
+        Set<String> accepted = new HashSet<>();
+        for (AlertSink sink : sinks) {
+            String name = sink.getName();
+            if (skip.contains(name)) {
+                continue;
+            }
+            int attempts = failingSinks.contains(name) ? 1 : maxAttempts;
+            for (int attempt = 1; attempt <= attempts; attempt++) {
+                try {
+                    sink.deliver(notification);
+                    accepted.add(name);
+                    failingSinks.remove(name);
+                    break;
+                } catch (Exception e) {
+                    logger.warn("Sink {} failed to deliver {} (attempt {}/{}): {}",
+                            name, notification, attempt, attempts, e.getMessage());
+                    if (attempt == attempts) {
+                        failingSinks.add(name);
+                    } else if (!sleep(RETRY_BACKOFF_MILLIS * attempt)) {
+                        return accepted;
+                    }
+                }
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * @return The names of every sink, each of which must accept a notification before it is delivered.
+     */
+    public Set<String> getSinkNames() {
+        return sinkNames;
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.cryptowallet.alert;
+
+import com.project.cryptowallet.dto.AlertNotification;
+
+/**
+ * Destination for fired price alerts. Every AlertSink bean receives every notification.
+ */
+public interface AlertSink {
+
+    /**
+     * @return A short name used in logs.
+     */
+    String getName();
+
+    /**
+     * Deliver one notification. Throwing makes the dispatcher retry.
+     *
+     * @param notification The fired alert.
+     */
+    void deliver(AlertNotification notification) throws Exception;
+}
@@ -0,0 +1,23 @@
+package com.project.cryptowallet.alert;
+
+import com.project.cryptowallet.dto.AlertNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LogAlertSink implements AlertSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogAlertSink.class);
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(AlertNotification notification) {
+        logger.info("ALERT fired: {} {} crossed at {} (levels {} / {})", notification.getSymbol(), notification.getType(),
+                notification.getPrice(), notification.getUpperLevel(), notification.getLowerLevel());
+    }
+}
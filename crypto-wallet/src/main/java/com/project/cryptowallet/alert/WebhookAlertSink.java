@@ -0,0 +1,39 @@
+package com.project.cryptowallet.alert;
+
+import com.project.cryptowallet.dto.AlertNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+
+/**
+ * Posts each notification as JSON to 'alerts.webhook.url'. Only created when the property is set.
+ */
+@Component
+@ConditionalOnProperty(name = "alerts.webhook.url")
+public class WebhookAlertSink implements AlertSink {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final WebClient webClient;
+
+    public WebhookAlertSink(WebClient.Builder webClientBuilder, @Value("${alerts.webhook.url}") String url) {
+        this.webClient = webClientBuilder.baseUrl(url).build();
+    }
+
+    @Override
+    public String getName() {
+        return "webhook";
+    }
+
+    @Override
+    public void deliver(AlertNotification notification) {
+        webClient.post()
+                .bodyValue(notification)
+                .retrieve()
+                .toBodilessEntity()
+                .block(TIMEOUT);
+    }
+}
@@ -1,22 +1,33 @@
 package com.project.cryptowallet.client;
 
+import com.project.cryptowallet.dto.FxRate;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
-public class CoinCapClient {
+@Order(1)
+public class CoinCapClient implements PriceProvider {
 
     private final WebClient webClient;
+    private final RefreshBudget budget;
 
-    public CoinCapClient(WebClient webClient) {
+    public CoinCapClient(WebClient webClient, RefreshBudget budget) {
         this.webClient = webClient;
+        this.budget = budget;
+    }
+
+    @Override
+    public String getName() {
+        return "coincap";
     }
 
     /**
@@ -27,6 +38,7 @@ public class CoinCapClient {
     public Map<String, String> fetchValidAssets() {
         String endpoint = "/assets";
         Map<String, String> symbolToIdMap = new ConcurrentHashMap<>();
+        budget.consume(System.currentTimeMillis());
 
         try {
             // Make a non-blocking call to fetch data
@@ -59,8 +71,10 @@ public class CoinCapClient {
      * @param assetId The CoinCap asset ID.
      * @return The latest price as a BigDecimal.
      */
+    @Override
     public BigDecimal getLatestPrice(String assetId) {
         String endpoint = "/assets/" + assetId;
+        budget.consume(System.currentTimeMillis());
 
         try {
             // Make a non-blocking call to fetch data
@@ -84,4 +98,37 @@ public class CoinCapClient {
 
         throw new RuntimeException("Price not found for asset ID: " + assetId);
     }
+
+    /**
+     * Fetch the USD value of one unit of every fiat and crypto currency CoinCap knows.
+     *
+     * @return One entry per currency, e.g. EUR (fiat) at 1.08.
+     */
+    public List<FxRate> fetchRates() {
+        String endpoint = "/rates";
+        List<FxRate> rates = new ArrayList<>();
+        budget.consume(System.currentTimeMillis());
+
+        try {
+            Map response = webClient.get()
+                    .uri(endpoint)
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+
+            if (response != null && response.containsKey("data")) {
+                List<Map<String, Object>> dataList = (List<Map<String, Object>>) response.get("data");
+                for (Map<String, Object> rate : dataList) {
+                    if (rate.get("symbol") != null && rate.get("rateUsd") != null) {
+                        rates.add(new FxRate(((String) rate.get("symbol")).toUpperCase(), (String) rate.get("type"),
+                                new BigDecimal((String) rate.get("rateUsd"))));
+                    }
+                }
+            }
+            return rates;
+
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to fetch rates from CoinCap", e);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.project.cryptowallet.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Secondary price source. CoinGecko has its own coin IDs, so only assets with an explicit
+ * CoinCap-to-CoinGecko mapping (coingecko.ids) are asked here; the others are left to CoinCap.
+ */
+@Component
+@Order(2)
+@ConditionalOnProperty(name = "coingecko.enabled", havingValue = "true", matchIfMissing = true)
+public class CoinGeckoClient implements PriceProvider {
+
+    private final WebClient webClient;
+    private final RefreshBudget budget;
+    private final Map<String, String> coinIds;
+
+    /**
+     * @param coinIds Comma-separated "coincapId:coingeckoId" pairs, e.g. "bitcoin:bitcoin,xrp:ripple".
+     */
+    public CoinGeckoClient(WebClient.Builder webClientBuilder,
+                           @Value("${coingecko.api.base-url:https://api.coingecko.com/api/v3}") String baseUrl,
+                           @Value("${coingecko.ids:}") String coinIds,
+                           RefreshBudget budget) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.budget = budget;
+        this.coinIds = parseCoinIds(coinIds);
+    }
+
+    @Override
+    public String getName() {
+        return "coingecko";
+    }
+
+    @Override
+    public boolean supports(String assetId) {
+        return coinIds.containsKey(assetId);
+    }
+
+    /**
+     * Fetch the latest price for a given asset ID.
+     *
+     * @param assetId The CoinCap asset ID, mapped to the CoinGecko coin ID.
+     * @return The latest price as a BigDecimal.
+     */
+    @Override
+    public BigDecimal getLatestPrice(String assetId) {
+        String coinId = coinIds.get(assetId);
+        if (coinId == null) {
+            throw new IllegalArgumentException("No CoinGecko coin ID mapped for asset ID: " + assetId);
+        }
+        budget.consume(System.currentTimeMillis());
+        try {
+            Map response = webClient.get()
+                    .uri(uriBuilder -> uriBuilder.path("/simple/price")
+                            .queryParam("ids", coinId)
+                            .queryParam("vs_currencies", "usd")
+                            .build())
+                    .retrieve()
+                    .bodyToMono(Map.class)
+                    .block();
+
+            if (response != null && response.get(coinId) instanceof Map<?, ?> prices && prices.get("usd") != null) {
+                return new BigDecimal(prices.get("usd").toString()).setScale(2, RoundingMode.HALF_UP);
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to fetch price from CoinGecko for asset ID: " + assetId, e);
+        }
+
+        throw new RuntimeException("Price not found on CoinGecko for asset ID: " + assetId);
+    }
+
+    private static Map<String, String> parseCoinIds(String coinIds) {
+        Map<String, String> parsed = new HashMap<>();
+        for (String pair : coinIds.split(",")) {
+            if (pair.isBlank()) {
+                continue;
+            }
+            String[] ids = pair.split(":");
+            if (ids.length != 2 || ids[0].isBlank() || ids[1].isBlank()) {
+                throw new IllegalArgumentException("Invalid coingecko.ids entry: " + pair);
+            }
+            parsed.put(ids[0].trim(), ids[1].trim());
+        }
+        return Map.copyOf(parsed);
+    }
+}
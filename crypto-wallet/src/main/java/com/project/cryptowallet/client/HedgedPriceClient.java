@@ -0,0 +1,252 @@
+package com.project.cryptowallet.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HedgedPriceClient fetches a price from several providers with hedging:
+ * <ul>
+ *     <li>Providers that support the asset are tried in order of their health score.</li>
+ *     <li>If the current provider has not answered within its own observed p95 latency, the next one is
+ *     asked as well, as long as the shared {@link RefreshBudget} has room for the extra call; a failure
+ *     moves on to the next provider immediately.</li>
+ *     <li>The first valid (non-null, positive) price wins, and calls still in flight are cancelled.</li>
+ * </ul>
+ * A slow or failing provider therefore costs at most its p95 latency, and is demoted once its score drops.
+ * Provider calls run on a bounded pool; a call that finds the pool full counts as a failed attempt.
+ */
+@Component
+public class HedgedPriceClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(HedgedPriceClient.class);
+
+    private final List<PriceProvider> providers;
+    private final Map<PriceProvider, ProviderHealth> health = new IdentityHashMap<>();
+    private final long defaultHedgeDelayMillis;
+    private final long minHedgeDelayMillis;
+    private final long maxHedgeDelayMillis;
+    private final long timeoutMillis;
+    private final RefreshBudget budget;
+
+    private final ThreadPoolExecutor callExecutor;
+    private final ScheduledExecutorService hedgeTimer = Executors.newSingleThreadScheduledExecutor(daemonThreads("price-hedge"));
+
+    @Autowired
+    public HedgedPriceClient(List<PriceProvider> providers,
+                             @Value("${price.hedge.default-delay-ms:500}") long defaultHedgeDelayMillis,
+                             @Value("${price.hedge.min-delay-ms:50}") long minHedgeDelayMillis,
+                             @Value("${price.hedge.max-delay-ms:2000}") long maxHedgeDelayMillis,
+                             @Value("${price.hedge.timeout-ms:10000}") long timeoutMillis,
+                             @Value("${price.hedge.max-concurrent-calls:16}") int maxConcurrentCalls,
+                             RefreshBudget budget) {
+        if (providers.isEmpty()) {
+            throw new IllegalArgumentException("At least one price provider is required");
+        }
+        this.providers = List.copyOf(providers);
+        this.providers.forEach(provider -> health.put(provider, new ProviderHealth(defaultHedgeDelayMillis)));
+        this.defaultHedgeDelayMillis = defaultHedgeDelayMillis;
+        this.minHedgeDelayMillis = minHedgeDelayMillis;
+        this.maxHedgeDelayMillis = maxHedgeDelayMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.budget = budget;
+        // No queue: a call either gets a thread now or fails over, it never waits behind hung calls
+        this.callExecutor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), daemonThreads("price-provider"));
+        this.callExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    public HedgedPriceClient(List<PriceProvider> providers, RefreshBudget budget) {
+        this(providers, 500, 50, 2000, 10000, 16, budget);
+    }
+
+    /**
+     * Fetch the latest price for a given asset ID from the fastest healthy provider.
+     *
+     * @param assetId The CoinCap asset ID.
+     * @return The first valid price returned by any provider.
+     */
+    public BigDecimal getLatestPrice(String assetId) {
+        List<PriceProvider> ranked = rankedProviders(assetId);
+        if (ranked.isEmpty()) {
+            throw new RuntimeException("No price provider supports asset ID: " + assetId);
+        }
+        HedgedCall call = new HedgedCall(assetId, ranked);
+        call.launchNext();
+        try {
+            return call.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new RuntimeException("No price provider answered within " + timeoutMillis + " ms for asset ID: " + assetId);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching price for asset ID: " + assetId, e);
+        } finally {
+            call.cancelRemaining();
+        }
+    }
+
+    /**
+     * @return Providers sorted by health score, best first; ties keep the configured order.
+     */
+    public List<PriceProvider> rankedProviders() {
+        return rankedProviders(null);
+    }
+
+    /**
+     * @param assetId Asset to rank for, or null for every provider.
+     * @return Providers supporting the asset, sorted by health score, best first; ties keep the configured order.
+     */
+    public List<PriceProvider> rankedProviders(String assetId) {
+        long now = System.currentTimeMillis();
+        List<PriceProvider> ranked = new ArrayList<>(providers);
+        if (assetId != null) {
+            ranked.removeIf(provider -> !provider.supports(assetId));
+        }
+        ranked.sort(Comparator.comparingDouble((PriceProvider provider) -> health.get(provider).getScore(now)).reversed());
+        return ranked;
+    }
+
+    public ProviderHealth getHealth(PriceProvider provider) {
+        return health.get(provider);
+    }
+
+    public List<PriceProvider> getProviders() {
+        return providers;
+    }
+
+    /**
+     * How long to wait for a provider before hedging to the next one: its p95, clamped.
+     */
+    long hedgeDelayMillis(PriceProvider provider) {
+        long p95 = health.get(provider).getP95Millis();
+        if (p95 < 0) {
+            return defaultHedgeDelayMillis;
+        }
+        return Math.max(minHedgeDelayMillis, Math.min(maxHedgeDelayMillis, p95));
+    }
+
+    @PreDestroy
+    public void stop() {
+        hedgeTimer.shutdownNow();
+        callExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * State of one hedged request: which providers have been asked, and how many have failed.
+     */
+    private final class HedgedCall {
+
+        private final String assetId;
+        private final List<PriceProvider> ranked;
+        private final CompletableFuture<BigDecimal> result = new CompletableFuture<>();
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final List<Future<?>> inFlight = new CopyOnWriteArrayList<>();
+
+        private HedgedCall(String assetId, List<PriceProvider> ranked) {
+            this.assetId = assetId;
+            this.ranked = ranked;
+        }
+
+        private void launchNext() {
+            if (result.isDone()) {
+                return;
+            }
+            int index = next.getAndIncrement();
+            if (index >= ranked.size()) {
+                return;
+            }
+            PriceProvider provider = ranked.get(index);
+            long start = System.nanoTime();
+
+            try {
+                inFlight.add(callExecutor.submit(() -> {
+                    BigDecimal price = null;
+                    Throwable error = null;
+                    try {
+                        price = provider.getLatestPrice(assetId);
+                    } catch (Throwable e) {
+                        error = e;
+                    }
+                    onComplete(provider, index, start, price, error);
+                }));
+            } catch (RejectedExecutionException e) {
+                onRejected(provider);
+                return;
+            }
+
+            if (index + 1 < ranked.size()) {
+                // Hedge only if nothing else (a failure) has already moved on past this provider,
+                // and only with budget to spare: the hedge is an extra provider call
+                hedgeTimer.schedule(() -> {
+                    if (next.get() == index + 1 && budget.available(System.currentTimeMillis()) > 0) {
+                        launchNext();
+                    }
+                }, hedgeDelayMillis(provider), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        /**
+         * Interrupt provider calls that can no longer win, so hung requests release their threads.
+         */
+        private void cancelRemaining() {
+            // Settles a timed-out call first, so no further provider is launched for it
+            result.completeExceptionally(new CancellationException("Hedged call for " + assetId + " is over"));
+            inFlight.forEach(future -> future.cancel(true));
+        }
+
+        private void onRejected(PriceProvider provider) {
+            logger.warn("Price provider pool is full, skipping {} for {}", provider.getName(), assetId);
+            fail();
+        }
+
+        private void fail() {
+            if (failures.incrementAndGet() == ranked.size()) {
+                result.completeExceptionally(new RuntimeException("All price providers failed for asset ID: " + assetId));
+            } else {
+                launchNext();
+            }
+        }
+
+        private void onComplete(PriceProvider provider, int index, long start, BigDecimal price, Throwable error) {
+            if (error != null && result.isDone() && !result.isCompletedExceptionally()) {
+                // Cancelled after another provider won: not this provider's fault
+                return;
+            }
+            long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            boolean valid = error == null && price != null && price.signum() > 0;
+            health.get(provider).record(latencyMillis, valid, System.currentTimeMillis());
+
+            if (valid) {
+                if (result.complete(price) && index > 0) {
+                    logger.info("Price for {} served by {} after hedging ({} ms)", assetId, provider.getName(), latencyMillis);
+                }
+                return;
+            }
+
+            logger.warn("Price provider {} failed for {} after {} ms: {}", provider.getName(), assetId, latencyMillis,
+                    error != null ? error.getMessage() : "invalid price " + price);
+            fail();
+        }
+    }
+}
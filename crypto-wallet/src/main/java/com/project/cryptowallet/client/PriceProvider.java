@@ -0,0 +1,31 @@
+package com.project.cryptowallet.client;
+
+import java.math.BigDecimal;
+
+/**
+ * A source of USD spot prices. Implementations are blocking and may throw on failure;
+ * {@link HedgedPriceClient} handles timeouts, hedging and fail-over across them.
+ */
+public interface PriceProvider {
+
+    /**
+     * @return A short name used in logs and health details.
+     */
+    String getName();
+
+    /**
+     * Fetch the latest USD price for an asset.
+     *
+     * @param assetId The CoinCap asset ID (e.g., "bitcoin"). Providers using other identifiers map from it.
+     * @return The latest price as a BigDecimal.
+     */
+    BigDecimal getLatestPrice(String assetId);
+
+    /**
+     * @param assetId The CoinCap asset ID.
+     * @return false if this provider has no identifier for the asset and must not be asked.
+     */
+    default boolean supports(String assetId) {
+        return true;
+    }
+}
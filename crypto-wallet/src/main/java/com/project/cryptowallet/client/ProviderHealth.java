@@ -0,0 +1,90 @@
+package com.project.cryptowallet.client;
+
+import java.util.Arrays;
+
+/**
+ * Latency and success tracking for one price provider.
+ * <ul>
+ *     <li>Latency: the last {@link #SAMPLE_SIZE} call durations in a ring, for the p95 used as hedge delay.</li>
+ *     <li>Success rate: an EWMA of call outcomes that drifts back towards healthy while the provider is idle,
+ *     so a demoted provider is retried once its outage is likely over.</li>
+ * </ul>
+ * The score combines both; higher is better. Until a provider has answered once, its latency is
+ * assumed to be the given prior, so an untried provider does not outrank a measured fast one.
+ */
+public class ProviderHealth {
+
+    static final int SAMPLE_SIZE = 100;
+    // Below this many samples the p95 is not meaningful and the default hedge delay applies
+    private static final int MIN_SAMPLES = 10;
+    private static final double SUCCESS_ALPHA = 0.2;
+    private static final double LATENCY_ALPHA = 0.1;
+    private static final double RECOVERY_MILLIS = 60_000;
+
+    private final long[] latencies = new long[SAMPLE_SIZE];
+    private int position;
+    private int count;
+    private double successRate = 1.0;
+    private double latencyEwma;
+    private long lastCallMillis;
+
+    public ProviderHealth(long priorLatencyMillis) {
+        this.latencyEwma = priorLatencyMillis;
+    }
+
+    /**
+     * Record the outcome of one call.
+     *
+     * @param latencyMillis Time from request to answer or failure.
+     * @param success       Whether the provider returned a valid price.
+     * @param nowMillis     Completion time.
+     */
+    public synchronized void record(long latencyMillis, boolean success, long nowMillis) {
+        successRate = successRate(nowMillis) * (1 - SUCCESS_ALPHA) + (success ? SUCCESS_ALPHA : 0);
+        lastCallMillis = nowMillis;
+        if (!success) {
+            // Failures are often fast (connection refused) and would flatter the latency figures
+            return;
+        }
+        latencies[position] = latencyMillis;
+        position = (position + 1) % SAMPLE_SIZE;
+        count = Math.min(count + 1, SAMPLE_SIZE);
+        latencyEwma = count == 1 ? latencyMillis : latencyEwma * (1 - LATENCY_ALPHA) + latencyMillis * LATENCY_ALPHA;
+    }
+
+    /**
+     * @return The 95th percentile of recent successful call latencies, or -1 with too few samples.
+     */
+    public synchronized long getP95Millis() {
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(0.95 * count) - 1];
+    }
+
+    /**
+     * @return The success rate at the given time, including idle recovery.
+     */
+    public synchronized double getSuccessRate(long nowMillis) {
+        return successRate(nowMillis);
+    }
+
+    /**
+     * Success rate divided by a latency penalty: a provider failing half its calls ranks
+     * below a healthy one even if it is faster.
+     */
+    public synchronized double getScore(long nowMillis) {
+        double success = successRate(nowMillis);
+        return success * success / (1 + latencyEwma / 1000);
+    }
+
+    private double successRate(long nowMillis) {
+        if (lastCallMillis == 0 || successRate >= 1.0) {
+            return successRate;
+        }
+        double idle = Math.max(0, nowMillis - lastCallMillis);
+        return 1 - (1 - successRate) * Math.exp(-idle / RECOVERY_MILLIS);
+    }
+}
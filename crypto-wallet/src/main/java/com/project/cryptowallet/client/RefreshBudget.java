@@ -0,0 +1,77 @@
+package com.project.cryptowallet.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Token bucket limiting the number of price provider calls per minute, shared by every provider client.
+ * Each outbound provider request is charged here, whoever triggered it. Forced calls (manual refreshes,
+ * cache misses, FX rates) are always allowed but drain the bucket; optional work (scheduled refreshes,
+ * hedges, refresh-ahead) checks {@link #available} first, so it backs off after a burst of forced traffic.
+ */
+@Component
+public class RefreshBudget {
+
+    private final double capacity;
+    private final double tokensPerMilli;
+    private double tokens;
+    private long lastRefillMillis = -1;
+
+    @Autowired
+    public RefreshBudget(@Value("${price.refresh.calls-per-minute:120}") long callsPerMinute) {
+        if (callsPerMinute <= 0) {
+            throw new IllegalArgumentException("callsPerMinute must be positive");
+        }
+        // At most one second worth of burst, so the per-minute budget holds in any window
+        this.capacity = Math.max(1.0, callsPerMinute / 60.0);
+        this.tokensPerMilli = callsPerMinute / 60_000.0;
+        this.tokens = capacity;
+    }
+
+    /**
+     * Take one token if available.
+     *
+     * @param nowMillis Current time in milliseconds.
+     * @return true if the call fits in the budget.
+     */
+    public synchronized boolean tryAcquire(long nowMillis) {
+        refill(nowMillis);
+        if (tokens >= 1.0) {
+            tokens -= 1.0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Record a call that was made regardless of the budget. The balance may go negative.
+     *
+     * @param nowMillis Current time in milliseconds.
+     */
+    public synchronized void consume(long nowMillis) {
+        refill(nowMillis);
+        tokens -= 1.0;
+    }
+
+    /**
+     * @param nowMillis Current time in milliseconds.
+     * @return The number of whole calls that still fit in the budget right now, without taking them.
+     */
+    public synchronized long available(long nowMillis) {
+        refill(nowMillis);
+        return tokens >= 1.0 ? (long) tokens : 0;
+    }
+
+    private void refill(long nowMillis) {
+        if (lastRefillMillis < 0) {
+            lastRefillMillis = nowMillis;
+            return;
+        }
+        long elapsed = nowMillis - lastRefillMillis;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + elapsed * tokensPerMilli);
+            lastRefillMillis = nowMillis;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.cryptowallet.config;
+
+import com.project.cryptowallet.admission.AdmissionControl;
+import com.project.cryptowallet.admission.AdmissionInterceptor;
+import com.project.cryptowallet.admission.AdmissionLimiter;
+import com.project.cryptowallet.admission.GradientLimit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Admission control for the expensive endpoints: one adaptive limiter per path,
+ * configured by its priority class (high: interactive reads, low: manual refreshes and replays).
+ */
+@Configuration
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    @Value("${admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${admission.high.paths:/api/wallet/summary,/api/wallet/price/**}")
+    private String[] highPaths;
+    @Value("${admission.high.initial-limit:32}")
+    private int highInitialLimit;
+    @Value("${admission.high.min-limit:4}")
+    private int highMinLimit;
+    @Value("${admission.high.max-limit:200}")
+    private int highMaxLimit;
+    @Value("${admission.high.queue-size:100}")
+    private int highQueueSize;
+    @Value("${admission.high.max-wait-ms:250}")
+    private long highMaxWaitMillis;
+
+    @Value("${admission.low.paths:/api/wallet/update,/api/wallet/replay}")
+    private String[] lowPaths;
+    @Value("${admission.low.initial-limit:2}")
+    private int lowInitialLimit;
+    @Value("${admission.low.min-limit:1}")
+    private int lowMinLimit;
+    @Value("${admission.low.max-limit:3}")
+    private int lowMaxLimit;
+    @Value("${admission.low.queue-size:0}")
+    private int lowQueueSize;
+    @Value("${admission.low.max-wait-ms:0}")
+    private long lowMaxWaitMillis;
+
+    @Bean
+    public AdmissionControl admissionControl() {
+        List<AdmissionLimiter> limiters = new ArrayList<>();
+        for (String path : highPaths) {
+            limiters.add(new AdmissionLimiter(path.trim(), AdmissionLimiter.Priority.HIGH,
+                    new GradientLimit(highInitialLimit, highMinLimit, highMaxLimit), highQueueSize, highMaxWaitMillis));
+        }
+        for (String path : lowPaths) {
+            limiters.add(new AdmissionLimiter(path.trim(), AdmissionLimiter.Priority.LOW,
+                    new GradientLimit(lowInitialLimit, lowMinLimit, lowMaxLimit), lowQueueSize, lowMaxWaitMillis));
+        }
+        return new AdmissionControl(limiters);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!enabled) {
+            return;
+        }
+        AdmissionControl admissionControl = admissionControl();
+        for (AdmissionLimiter limiter : admissionControl.getLimiters()) {
+            registry.addInterceptor(new AdmissionInterceptor(admissionControl, limiter))
+                    .addPathPatterns(limiter.getName());
+        }
+    }
+}
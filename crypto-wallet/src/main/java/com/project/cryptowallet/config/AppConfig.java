@@ -1,9 +1,15 @@
 package com.project.cryptowallet.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
 
 @Configuration
 public class AppConfig {
@@ -11,11 +17,22 @@ public class AppConfig {
     @Value("${coincap.api.base-url}")
     private String baseUrl;
 
+    /**
+     * Connect and response timeouts for every WebClient built from the shared builder (CoinCap and CoinGecko).
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClientCustomizer providerTimeouts(@Value("${price.provider.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                                @Value("${price.provider.response-timeout-ms:5000}") long responseTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        return builder -> builder.clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder webClientBuilder) {
+        return webClientBuilder
                 .baseUrl(baseUrl)
                 .build();
     }
 }
-
@@ -0,0 +1,42 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.AlertRequest;
+import com.project.cryptowallet.model.PriceAlert;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * AlertController provides REST API endpoints for price alerts:
+ * registering ABOVE/BELOW/PERCENT_MOVE alerts, listing them and deleting them.
+ */
+public interface AlertController {
+
+    /**
+     * Register a list of price alerts.
+     *
+     * @param requests List of AlertRequest objects containing symbol, type and trigger price or percent.
+     * @return ResponseEntity containing the persisted alerts, or 400 if a request is invalid.
+     */
+    @PostMapping("/alerts")
+    ResponseEntity<List<PriceAlert>> createAlerts(@RequestBody List<AlertRequest> requests);
+
+    /**
+     * List alerts, optionally for a single symbol.
+     *
+     * @param symbol Optional symbol filter.
+     * @return ResponseEntity containing the alerts.
+     */
+    @GetMapping("/alerts")
+    ResponseEntity<List<PriceAlert>> getAlerts(@RequestParam(value = "symbol", required = false) String symbol);
+
+    /**
+     * Delete an alert.
+     *
+     * @param id The alert ID.
+     * @return 204 if deleted, 404 if no such alert exists.
+     */
+    @DeleteMapping("/alerts/{id}")
+    ResponseEntity<Void> deleteAlert(@PathVariable Long id);
+}
@@ -0,0 +1,48 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.AlertRequest;
+import com.project.cryptowallet.model.PriceAlert;
+import com.project.cryptowallet.service.PriceAlertService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class AlertControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertControllerImpl.class);
+    private final PriceAlertService priceAlertService;
+
+    public AlertControllerImpl(PriceAlertService priceAlertService) {
+        this.priceAlertService = priceAlertService;
+    }
+
+    @PostMapping("/alerts")
+    public ResponseEntity<List<PriceAlert>> createAlerts(@RequestBody List<AlertRequest> requests) {
+        logger.info("Received request to register {} alerts", requests.size());
+        return ResponseEntity.ok(priceAlertService.createAlerts(requests));
+    }
+
+    @GetMapping("/alerts")
+    public ResponseEntity<List<PriceAlert>> getAlerts(@RequestParam(value = "symbol", required = false) String symbol) {
+        return ResponseEntity.ok(priceAlertService.getAlerts(symbol != null ? symbol.toUpperCase() : null));
+    }
+
+    @DeleteMapping("/alerts/{id}")
+    public ResponseEntity<Void> deleteAlert(@PathVariable Long id) {
+        logger.info("Received request to delete alert {}", id);
+        return priceAlertService.deleteAlert(id)
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected alert request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.AnalyticsResponse;
+import com.project.cryptowallet.dto.SeriesMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+/**
+ * AnalyticsController provides REST API endpoints for the streaming risk metrics:
+ * rolling volatility, max drawdown, 24h high/low, 1h/24h/7d returns and cross-asset correlation.
+ */
+public interface AnalyticsController {
+
+    /**
+     * Retrieve risk metrics for the wallet and every observed symbol.
+     *
+     * @return ResponseEntity containing wallet, per-symbol and correlation metrics.
+     */
+    @GetMapping("/analytics")
+    ResponseEntity<AnalyticsResponse> getAnalytics();
+
+    /**
+     * Retrieve risk metrics for a single symbol.
+     *
+     * @param symbol The asset symbol (e.g., "BTC").
+     * @return ResponseEntity containing the symbol's metrics, or 404 if it has not been observed.
+     */
+    @GetMapping("/analytics/{symbol}")
+    ResponseEntity<SeriesMetrics> getSymbolAnalytics(@PathVariable String symbol);
+}
@@ -0,0 +1,35 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.AnalyticsResponse;
+import com.project.cryptowallet.dto.SeriesMetrics;
+import com.project.cryptowallet.service.RiskAnalyticsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class AnalyticsControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsControllerImpl.class);
+    private final RiskAnalyticsService riskAnalyticsService;
+
+    public AnalyticsControllerImpl(RiskAnalyticsService riskAnalyticsService) {
+        this.riskAnalyticsService = riskAnalyticsService;
+    }
+
+    @GetMapping("/analytics")
+    public ResponseEntity<AnalyticsResponse> getAnalytics() {
+        logger.debug("Received request for wallet analytics.");
+        return ResponseEntity.ok(riskAnalyticsService.getAnalytics());
+    }
+
+    @GetMapping("/analytics/{symbol}")
+    public ResponseEntity<SeriesMetrics> getSymbolAnalytics(@PathVariable String symbol) {
+        logger.debug("Received request for analytics of {}", symbol);
+        return riskAnalyticsService.getSymbolMetrics(symbol.toUpperCase())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.cryptowallet.controller;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+/**
+ * HistoryController provides the REST API endpoint for reading the stored price history of a symbol.
+ * The format follows the Accept header: JSON rows, or a columnar delta-encoded CBOR series.
+ */
+public interface HistoryController {
+
+    /**
+     * Stream price ticks as JSON rows, or as a columnar, delta-encoded CBOR series when the client
+     * explicitly accepts application/cbor. A missing Accept header or a wildcard gets JSON.
+     *
+     * @param symbol   The asset symbol.
+     * @param from     Optional inclusive start, defaults to one day before 'to'.
+     * @param to       Optional inclusive end, defaults to now.
+     * @param currency Optional currency, USD by default.
+     * @param accept   The Accept header.
+     * @return ResponseEntity streaming the series, 400 if the range or currency is invalid,
+     * or 503 if FX rates are not loaded yet.
+     */
+    @GetMapping(value = "/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    ResponseEntity<StreamingResponseBody> getHistory(@RequestParam String symbol,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                     @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                     @RequestParam(required = false) String currency,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept);
+
+    /**
+     * Export price ticks as a CSV download, streamed with chunked transfer encoding.
+     *
+     * @param symbol The asset symbol.
+     * @param from   Optional inclusive start, defaults to one day before 'to'.
+     * @param to     Optional inclusive end, defaults to now.
+     * @param format Export format, only "csv" is supported.
+     * @return ResponseEntity streaming the file, 400 if the range, currency or format is invalid,
+     * or 503 if FX rates are not loaded yet.
+     */
+    @GetMapping("/history/export")
+    ResponseEntity<StreamingResponseBody> exportHistory(@RequestParam String symbol,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                        @RequestParam(required = false) String currency,
+                                                        @RequestParam(defaultValue = "csv") String format);
+}
@@ -0,0 +1,103 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.HistoryQuery;
+import com.project.cryptowallet.service.FxRatesUnavailableException;
+import com.project.cryptowallet.service.HistoryService;
+import com.project.cryptowallet.service.TickSeriesWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class HistoryControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryControllerImpl.class);
+    private final HistoryService historyService;
+
+    public HistoryControllerImpl(HistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @GetMapping(value = "/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public ResponseEntity<StreamingResponseBody> getHistory(@RequestParam String symbol,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                            @RequestParam(required = false) String currency,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        HistoryQuery query = historyService.resolve(symbol, from, to, currency);
+        if (acceptsCbor(accept)) {
+            logger.info("Received request for {} history from {} to {} as CBOR", query.getSymbol(), query.getFrom(), query.getTo());
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_CBOR)
+                    .body(out -> historyService.writeHistory(query, TickSeriesWriter.columnar(out)));
+        }
+        logger.info("Received request for {} history from {} to {} as JSON", query.getSymbol(), query.getFrom(), query.getTo());
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> historyService.writeHistory(query, TickSeriesWriter.json(out)));
+    }
+
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(@RequestParam String symbol,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                               @RequestParam(required = false) String currency,
+                                                               @RequestParam(defaultValue = "csv") String format) {
+        if (!"csv".equalsIgnoreCase(format)) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+        HistoryQuery query = historyService.resolve(symbol, from, to, currency);
+        logger.info("Received request to export {} history from {} to {}", query.getSymbol(), query.getFrom(), query.getTo());
+
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(query.getSymbol().toLowerCase() + "-history.csv")
+                .build();
+        // No Content-Length: the servlet container uses chunked transfer, the body runs on the MVC async executor
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(out -> historyService.exportCsv(query, out));
+    }
+
+    /**
+     * CBOR is opt-in: it is only chosen when the client names it explicitly, and not with a lower quality than JSON.
+     * A missing Accept header or a wildcard gets JSON.
+     */
+    static boolean acceptsCbor(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        double cbor = 0;
+        double json = 0;
+        for (MediaType type : MediaType.parseMediaTypes(accept)) {
+            if (type.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                cbor = Math.max(cbor, type.getQualityValue());
+            } else if (type.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, type.getQualityValue());
+            }
+        }
+        return cbor > 0 && cbor >= json;
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected history request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(FxRatesUnavailableException.class)
+    public ResponseEntity<String> handleRatesUnavailable(FxRatesUnavailableException e) {
+        logger.warn("History request could not be served: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+}
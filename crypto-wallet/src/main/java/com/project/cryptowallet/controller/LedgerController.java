@@ -0,0 +1,37 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.HoldingsResponse;
+import com.project.cryptowallet.dto.TransactionRequest;
+import com.project.cryptowallet.model.LedgerTransaction;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * LedgerController provides REST API endpoints for the append-only transaction ledger:
+ * recording buys, sells and transfers, and reading the holdings and cost basis derived from them.
+ */
+public interface LedgerController {
+
+    /**
+     * Record a batch of transactions, in execution order.
+     *
+     * @param requests List of TransactionRequest objects containing symbol, type, quantity, price and optional execution time.
+     * @return ResponseEntity containing the recorded transactions, or 400 if any of them is invalid (nothing is recorded then).
+     */
+    @PostMapping("/ledger/transactions")
+    ResponseEntity<List<LedgerTransaction>> recordTransactions(@RequestBody List<TransactionRequest> requests);
+
+    /**
+     * Get the holdings derived from the ledger, now or at a point in time.
+     *
+     * @param asOf Optional point in time; current holdings if omitted.
+     * @return ResponseEntity containing quantity, cost basis and realized P&amp;L per symbol.
+     */
+    @GetMapping("/ledger/holdings")
+    ResponseEntity<HoldingsResponse> getHoldings(
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf);
+}
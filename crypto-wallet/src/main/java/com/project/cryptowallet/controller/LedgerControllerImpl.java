@@ -0,0 +1,45 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.HoldingsResponse;
+import com.project.cryptowallet.dto.TransactionRequest;
+import com.project.cryptowallet.model.LedgerTransaction;
+import com.project.cryptowallet.service.LedgerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class LedgerControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerControllerImpl.class);
+    private final LedgerService ledgerService;
+
+    public LedgerControllerImpl(LedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    @PostMapping("/ledger/transactions")
+    public ResponseEntity<List<LedgerTransaction>> recordTransactions(@RequestBody List<TransactionRequest> requests) {
+        logger.info("Received request to record {} ledger transactions.", requests.size());
+        return ResponseEntity.ok(ledgerService.recordTransactions(requests));
+    }
+
+    @GetMapping("/ledger/holdings")
+    public ResponseEntity<HoldingsResponse> getHoldings(
+            @RequestParam(value = "asOf", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        logger.info("Received request for ledger holdings as of {}", asOf != null ? asOf : "now");
+        return ResponseEntity.ok(ledgerService.getHoldings(asOf));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected ledger request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
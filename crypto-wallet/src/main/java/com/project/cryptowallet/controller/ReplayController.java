@@ -0,0 +1,23 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.ReplayRequest;
+import com.project.cryptowallet.dto.ReplayResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * ReplayController provides the REST API endpoint for backtesting a set of holdings
+ * against the stored price history.
+ */
+public interface ReplayController {
+
+    /**
+     * Replay holdings over a past time range and return the wallet value at each step.
+     *
+     * @param request Holdings (defaults to the current wallet), time range and step size.
+     * @return ResponseEntity containing the value time series, or 400 if the request is invalid.
+     */
+    @PostMapping("/replay")
+    ResponseEntity<ReplayResponse> replay(@RequestBody ReplayRequest request);
+}
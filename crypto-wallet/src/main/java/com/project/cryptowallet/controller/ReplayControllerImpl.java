@@ -0,0 +1,36 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.ReplayRequest;
+import com.project.cryptowallet.dto.ReplayResponse;
+import com.project.cryptowallet.service.ReplayService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class ReplayControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayControllerImpl.class);
+    private final ReplayService replayService;
+
+    public ReplayControllerImpl(ReplayService replayService) {
+        this.replayService = replayService;
+    }
+
+    @PostMapping("/replay")
+    public ResponseEntity<ReplayResponse> replay(@RequestBody ReplayRequest request) {
+        logger.info("Received replay request from {} to {} with step {}s",
+                request.getFrom(), request.getTo(), request.getStepSeconds());
+        ReplayResponse response = replayService.replay(request);
+        logger.info("Replay generated {} points", response.getPoints().size());
+        return ResponseEntity.ok(response);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected replay request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.SpotPriceResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * SpotPriceController provides the REST API endpoint for the latest price of a single symbol,
+ * served from a short-lived cache in front of the price providers.
+ */
+public interface SpotPriceController {
+
+    /**
+     * Get the latest price of a symbol.
+     *
+     * @param symbol   The asset symbol (e.g., BTC).
+     * @param currency Optional currency (e.g., EUR, BTC), USD by default.
+     * @return ResponseEntity containing the price and when it was fetched, 400 if the symbol or currency is unknown,
+     * or 503 if the symbol map or FX rates are not loaded yet, or no provider returned a price.
+     */
+    @GetMapping("/price/{symbol}")
+    ResponseEntity<SpotPriceResponse> getSpotPrice(@PathVariable String symbol,
+                                                   @RequestParam(required = false) String currency);
+}
@@ -0,0 +1,55 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.SpotPriceResponse;
+import com.project.cryptowallet.service.FxRatesUnavailableException;
+import com.project.cryptowallet.service.PriceUnavailableException;
+import com.project.cryptowallet.service.SpotPriceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/wallet")
+public class SpotPriceControllerImpl {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotPriceControllerImpl.class);
+    private final SpotPriceService spotPriceService;
+
+    public SpotPriceControllerImpl(SpotPriceService spotPriceService) {
+        this.spotPriceService = spotPriceService;
+    }
+
+    @GetMapping("/price/{symbol}")
+    public ResponseEntity<SpotPriceResponse> getSpotPrice(@PathVariable String symbol,
+                                                          @RequestParam(required = false) String currency) {
+        // Hot path: no per-request info logging
+        logger.debug("Received request for the spot price of {} in {}", symbol, currency);
+        return ResponseEntity.ok(spotPriceService.getSpotPrice(symbol, currency));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected spot price request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<String> handleUnavailable(IllegalStateException e) {
+        logger.warn("Spot price request could not be served: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    @ExceptionHandler(FxRatesUnavailableException.class)
+    public ResponseEntity<String> handleRatesUnavailable(FxRatesUnavailableException e) {
+        logger.warn("Spot price request could not be served: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+
+    @ExceptionHandler(PriceUnavailableException.class)
+    public ResponseEntity<String> handlePriceUnavailable(PriceUnavailableException e) {
+        logger.warn("Spot price request could not be served: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
+}
@@ -38,11 +38,14 @@ public interface WalletController {
      * Otherwise, fetch the current wallet summary.
      *
      * @param timestamp Optional timestamp to fetch historical summary.
-     * @return ResponseEntity containing the wallet summary.
+     * @param currency  Optional valuation currency (e.g., EUR, BTC), USD by default.
+     * @return ResponseEntity containing the wallet summary, 400 if the currency is unknown,
+     * or 503 if FX rates are not loaded yet.
      */
     @GetMapping("/summary")
     ResponseEntity<WalletSummaryResponse> getWalletSummary(
-            @RequestParam(value = "timestamp", required = false) LocalDateTime timestamp
+            @RequestParam(value = "timestamp", required = false) LocalDateTime timestamp,
+            @RequestParam(value = "currency", required = false) String currency
     );
 
     /**
@@ -2,9 +2,11 @@ package com.project.cryptowallet.controller;
 
 import com.project.cryptowallet.dto.WalletSummaryResponse;
 import com.project.cryptowallet.model.WalletAsset;
+import com.project.cryptowallet.service.FxRatesUnavailableException;
 import com.project.cryptowallet.service.WalletService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -49,9 +51,10 @@ public class WalletControllerImpl {
 
     @GetMapping("/summary")
     public ResponseEntity<WalletSummaryResponse> getWalletSummary(
-            @RequestParam(value = "timestamp", required = false) LocalDateTime timestamp) {
-        logger.info("Received request to fetch wallet summary for timestamp: {}", timestamp);
-        WalletSummaryResponse summary = walletService.getWalletSummary(timestamp);
+            @RequestParam(value = "timestamp", required = false) LocalDateTime timestamp,
+            @RequestParam(value = "currency", required = false) String currency) {
+        logger.info("Received request to fetch wallet summary for timestamp: {} in {}", timestamp, currency);
+        WalletSummaryResponse summary = walletService.getWalletSummary(timestamp, currency);
         logger.info("Wallet summary generated successfully: {}", summary);
         return ResponseEntity.ok(summary);
     }
@@ -63,4 +66,16 @@ public class WalletControllerImpl {
         logger.info("Update frequency set to {} seconds", frequencyInSeconds);
         return ResponseEntity.ok("Update frequency set to " + frequencyInSeconds + " seconds");
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        logger.warn("Rejected wallet request: {}", e.getMessage());
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(FxRatesUnavailableException.class)
+    public ResponseEntity<String> handleRatesUnavailable(FxRatesUnavailableException e) {
+        logger.warn("Wallet request could not be served: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+    }
 }
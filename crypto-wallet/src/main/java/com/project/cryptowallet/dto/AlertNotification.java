@@ -0,0 +1,63 @@
+package com.project.cryptowallet.dto;
+
+import com.project.cryptowallet.model.AlertType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class AlertNotification {
+
+    private Long alertId;
+    private String symbol;
+    private AlertType type;
+    private BigDecimal upperLevel;
+    private BigDecimal lowerLevel;
+    private BigDecimal price;
+    private LocalDateTime triggeredAt;
+
+    public AlertNotification() {}
+
+    public AlertNotification(Long alertId, String symbol, AlertType type, BigDecimal upperLevel, BigDecimal lowerLevel,
+                             BigDecimal price, LocalDateTime triggeredAt) {
+        this.alertId = alertId;
+        this.symbol = symbol;
+        this.type = type;
+        this.upperLevel = upperLevel;
+        this.lowerLevel = lowerLevel;
+        this.price = price;
+        this.triggeredAt = triggeredAt;
+    }
+
+    public Long getAlertId() { return alertId; }
+
+    public void setAlertId(Long alertId) { this.alertId = alertId; }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public AlertType getType() { return type; }
+
+    public void setType(AlertType type) { this.type = type; }
+
+    public BigDecimal getUpperLevel() { return upperLevel; }
+
+    public void setUpperLevel(BigDecimal upperLevel) { this.upperLevel = upperLevel; }
+
+    public BigDecimal getLowerLevel() { return lowerLevel; }
+
+    public void setLowerLevel(BigDecimal lowerLevel) { this.lowerLevel = lowerLevel; }
+
+    public BigDecimal getPrice() { return price; }
+
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public LocalDateTime getTriggeredAt() { return triggeredAt; }
+
+    public void setTriggeredAt(LocalDateTime triggeredAt) { this.triggeredAt = triggeredAt; }
+
+    @Override
+    public String toString() {
+        return "Alert " + alertId + " " + type + " " + symbol + " at " + price;
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.cryptowallet.dto;
+
+import com.project.cryptowallet.model.AlertType;
+
+import java.math.BigDecimal;
+
+public class AlertRequest {
+
+    private String symbol;
+    private AlertType type;
+    private BigDecimal triggerPrice;
+    private BigDecimal percent;
+
+    public AlertRequest() {}
+
+    public AlertRequest(String symbol, AlertType type, BigDecimal triggerPrice, BigDecimal percent) {
+        this.symbol = symbol;
+        this.type = type;
+        this.triggerPrice = triggerPrice;
+        this.percent = percent;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public AlertType getType() { return type; }
+
+    public void setType(AlertType type) { this.type = type; }
+
+    public BigDecimal getTriggerPrice() { return triggerPrice; }
+
+    public void setTriggerPrice(BigDecimal triggerPrice) { this.triggerPrice = triggerPrice; }
+
+    public BigDecimal getPercent() { return percent; }
+
+    public void setPercent(BigDecimal percent) { this.percent = percent; }
+}
@@ -0,0 +1,38 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public class AnalyticsResponse {
+
+    private BigDecimal walletValue;
+    private SeriesMetrics wallet;
+    private Map<String, SeriesMetrics> symbols;
+    private Map<String, Map<String, Double>> correlations;
+
+    public AnalyticsResponse() {}
+
+    public AnalyticsResponse(BigDecimal walletValue, SeriesMetrics wallet, Map<String, SeriesMetrics> symbols,
+                             Map<String, Map<String, Double>> correlations) {
+        this.walletValue = walletValue;
+        this.wallet = wallet;
+        this.symbols = symbols;
+        this.correlations = correlations;
+    }
+
+    public BigDecimal getWalletValue() { return walletValue; }
+
+    public void setWalletValue(BigDecimal walletValue) { this.walletValue = walletValue; }
+
+    public SeriesMetrics getWallet() { return wallet; }
+
+    public void setWallet(SeriesMetrics wallet) { this.wallet = wallet; }
+
+    public Map<String, SeriesMetrics> getSymbols() { return symbols; }
+
+    public void setSymbols(Map<String, SeriesMetrics> symbols) { this.symbols = symbols; }
+
+    public Map<String, Map<String, Double>> getCorrelations() { return correlations; }
+
+    public void setCorrelations(Map<String, Map<String, Double>> correlations) { this.correlations = correlations; }
+}
@@ -0,0 +1,18 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only projection of a wallet row: only the columns the price refresh needs.
+ */
+public interface AssetHolding {
+
+    Long getId();
+
+    /**
+     * @return The upper-case asset symbol.
+     */
+    String getSymbol();
+
+    BigDecimal getQuantity();
+}
@@ -0,0 +1,36 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of the provider's rates endpoint: the USD value of one unit of a currency.
+ */
+public class FxRate {
+
+    private String symbol;
+    private String type;
+    private BigDecimal rateUsd;
+
+    public FxRate() {}
+
+    public FxRate(String symbol, String type, BigDecimal rateUsd) {
+        this.symbol = symbol;
+        this.type = type;
+        this.rateUsd = rateUsd;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    /**
+     * @return "fiat" or "crypto".
+     */
+    public String getType() { return type; }
+
+    public void setType(String type) { this.type = type; }
+
+    public BigDecimal getRateUsd() { return rateUsd; }
+
+    public void setRateUsd(BigDecimal rateUsd) { this.rateUsd = rateUsd; }
+}
@@ -0,0 +1,43 @@
+package com.project.cryptowallet.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A validated price history range: upper-case symbol, inclusive 'from' and 'to', and the currency prices are converted to.
+ */
+public class HistoryQuery {
+
+    private String symbol;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String currency = "USD";
+
+    public HistoryQuery() {}
+
+    public HistoryQuery(String symbol, LocalDateTime from, LocalDateTime to) {
+        this.symbol = symbol;
+        this.from = from;
+        this.to = to;
+    }
+
+    public HistoryQuery(String symbol, LocalDateTime from, LocalDateTime to, String currency) {
+        this(symbol, from, to);
+        this.currency = currency;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public LocalDateTime getFrom() { return from; }
+
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public String getCurrency() { return currency; }
+
+    public void setCurrency(String currency) { this.currency = currency; }
+}
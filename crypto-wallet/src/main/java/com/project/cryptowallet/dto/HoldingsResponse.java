@@ -0,0 +1,41 @@
+package com.project.cryptowallet.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Ledger positions at a point in time, with how they were derived: the snapshot they started from
+ * (null if none) and the number of transactions replayed on top of it.
+ */
+public class HoldingsResponse {
+
+    private LocalDateTime asOf;
+    private LocalDateTime snapshotAsOf;
+    private long replayedTransactions;
+    private List<PositionResponse> positions;
+
+    public HoldingsResponse() {}
+
+    public HoldingsResponse(LocalDateTime asOf, LocalDateTime snapshotAsOf, long replayedTransactions, List<PositionResponse> positions) {
+        this.asOf = asOf;
+        this.snapshotAsOf = snapshotAsOf;
+        this.replayedTransactions = replayedTransactions;
+        this.positions = positions;
+    }
+
+    public LocalDateTime getAsOf() { return asOf; }
+
+    public void setAsOf(LocalDateTime asOf) { this.asOf = asOf; }
+
+    public LocalDateTime getSnapshotAsOf() { return snapshotAsOf; }
+
+    public void setSnapshotAsOf(LocalDateTime snapshotAsOf) { this.snapshotAsOf = snapshotAsOf; }
+
+    public long getReplayedTransactions() { return replayedTransactions; }
+
+    public void setReplayedTransactions(long replayedTransactions) { this.replayedTransactions = replayedTransactions; }
+
+    public List<PositionResponse> getPositions() { return positions; }
+
+    public void setPositions(List<PositionResponse> positions) { this.positions = positions; }
+}
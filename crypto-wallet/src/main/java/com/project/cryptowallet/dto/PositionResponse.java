@@ -0,0 +1,45 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * A position derived from the ledger: quantity held, remaining cost basis (total and per unit) and realized P&amp;L, in USD.
+ */
+public class PositionResponse {
+
+    private String symbol;
+    private BigDecimal quantity;
+    private BigDecimal costBasis;
+    private BigDecimal averageCost;
+    private BigDecimal realizedPnl;
+
+    public PositionResponse() {}
+
+    public PositionResponse(String symbol, BigDecimal quantity, BigDecimal costBasis, BigDecimal averageCost, BigDecimal realizedPnl) {
+        this.symbol = symbol;
+        this.quantity = quantity;
+        this.costBasis = costBasis;
+        this.averageCost = averageCost;
+        this.realizedPnl = realizedPnl;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public BigDecimal getQuantity() { return quantity; }
+
+    public void setQuantity(BigDecimal quantity) { this.quantity = quantity; }
+
+    public BigDecimal getCostBasis() { return costBasis; }
+
+    public void setCostBasis(BigDecimal costBasis) { this.costBasis = costBasis; }
+
+    public BigDecimal getAverageCost() { return averageCost; }
+
+    public void setAverageCost(BigDecimal averageCost) { this.averageCost = averageCost; }
+
+    public BigDecimal getRealizedPnl() { return realizedPnl; }
+
+    public void setRealizedPnl(BigDecimal realizedPnl) { this.realizedPnl = realizedPnl; }
+}
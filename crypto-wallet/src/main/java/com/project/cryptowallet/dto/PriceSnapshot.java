@@ -0,0 +1,36 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Last known symbol map and prices, persisted locally so a restart does not begin cold.
+ */
+public class PriceSnapshot {
+
+    private LocalDateTime savedAt;
+    private Map<String, String> symbolToIdMap = new HashMap<>();
+    private Map<String, BigDecimal> prices = new HashMap<>();
+
+    public PriceSnapshot() {}
+
+    public PriceSnapshot(LocalDateTime savedAt, Map<String, String> symbolToIdMap, Map<String, BigDecimal> prices) {
+        this.savedAt = savedAt;
+        this.symbolToIdMap = symbolToIdMap;
+        this.prices = prices;
+    }
+
+    public LocalDateTime getSavedAt() { return savedAt; }
+
+    public void setSavedAt(LocalDateTime savedAt) { this.savedAt = savedAt; }
+
+    public Map<String, String> getSymbolToIdMap() { return symbolToIdMap; }
+
+    public void setSymbolToIdMap(Map<String, String> symbolToIdMap) { this.symbolToIdMap = symbolToIdMap; }
+
+    public Map<String, BigDecimal> getPrices() { return prices; }
+
+    public void setPrices(Map<String, BigDecimal> prices) { this.prices = prices; }
+}
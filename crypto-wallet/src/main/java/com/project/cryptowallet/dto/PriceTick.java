@@ -0,0 +1,16 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a single WalletAssetHistory row: just enough to replay prices in time order.
+ */
+public interface PriceTick {
+
+    Long getId();
+
+    BigDecimal getPrice();
+
+    LocalDateTime getUpdatedAt();
+}
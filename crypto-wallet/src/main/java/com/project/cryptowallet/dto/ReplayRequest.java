@@ -0,0 +1,38 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class ReplayRequest {
+
+    private Map<String, BigDecimal> holdings;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long stepSeconds;
+
+    public ReplayRequest() {}
+
+    public ReplayRequest(Map<String, BigDecimal> holdings, LocalDateTime from, LocalDateTime to, Long stepSeconds) {
+        this.holdings = holdings;
+        this.from = from;
+        this.to = to;
+        this.stepSeconds = stepSeconds;
+    }
+
+    public Map<String, BigDecimal> getHoldings() { return holdings; }
+
+    public void setHoldings(Map<String, BigDecimal> holdings) { this.holdings = holdings; }
+
+    public LocalDateTime getFrom() { return from; }
+
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public LocalDateTime getTo() { return to; }
+
+    public void setTo(LocalDateTime to) { this.to = to; }
+
+    public Long getStepSeconds() { return stepSeconds; }
+
+    public void setStepSeconds(Long stepSeconds) { this.stepSeconds = stepSeconds; }
+}
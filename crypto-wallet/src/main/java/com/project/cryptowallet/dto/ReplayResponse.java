@@ -0,0 +1,63 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class ReplayResponse {
+
+    private Map<String, BigDecimal> holdings;
+    private LocalDateTime from;
+    private long stepSeconds;
+    private List<Point> points;
+
+    public ReplayResponse() {}
+
+    public ReplayResponse(Map<String, BigDecimal> holdings, LocalDateTime from, long stepSeconds, List<Point> points) {
+        this.holdings = holdings;
+        this.from = from;
+        this.stepSeconds = stepSeconds;
+        this.points = points;
+    }
+
+    public Map<String, BigDecimal> getHoldings() { return holdings; }
+
+    public void setHoldings(Map<String, BigDecimal> holdings) { this.holdings = holdings; }
+
+    public LocalDateTime getFrom() { return from; }
+
+    public void setFrom(LocalDateTime from) { this.from = from; }
+
+    public long getStepSeconds() { return stepSeconds; }
+
+    public void setStepSeconds(long stepSeconds) { this.stepSeconds = stepSeconds; }
+
+    public List<Point> getPoints() { return points; }
+
+    public void setPoints(List<Point> points) { this.points = points; }
+
+    /**
+     * Wallet value at one step of the replay.
+     */
+    public static class Point {
+
+        private LocalDateTime timestamp;
+        private BigDecimal value;
+
+        public Point() {}
+
+        public Point(LocalDateTime timestamp, BigDecimal value) {
+            this.timestamp = timestamp;
+            this.value = value;
+        }
+
+        public LocalDateTime getTimestamp() { return timestamp; }
+
+        public void setTimestamp(LocalDateTime timestamp) { this.timestamp = timestamp; }
+
+        public BigDecimal getValue() { return value; }
+
+        public void setValue(BigDecimal value) { this.value = value; }
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.cryptowallet.dto;
+
+/**
+ * Rolling risk metrics for one price (or wallet index) series.
+ * Fields are null until enough history has been observed.
+ */
+public class SeriesMetrics {
+
+    private Double level;
+    private Double volatility;
+    private Double maxDrawdown;
+    private Double high24h;
+    private Double low24h;
+    private Double return1h;
+    private Double return24h;
+    private Double return7d;
+
+    public SeriesMetrics() {}
+
+    public SeriesMetrics(Double level, Double volatility, Double maxDrawdown, Double high24h, Double low24h,
+                         Double return1h, Double return24h, Double return7d) {
+        this.level = level;
+        this.volatility = volatility;
+        this.maxDrawdown = maxDrawdown;
+        this.high24h = high24h;
+        this.low24h = low24h;
+        this.return1h = return1h;
+        this.return24h = return24h;
+        this.return7d = return7d;
+    }
+
+    public Double getLevel() { return level; }
+
+    public void setLevel(Double level) { this.level = level; }
+
+    public Double getVolatility() { return volatility; }
+
+    public void setVolatility(Double volatility) { this.volatility = volatility; }
+
+    public Double getMaxDrawdown() { return maxDrawdown; }
+
+    public void setMaxDrawdown(Double maxDrawdown) { this.maxDrawdown = maxDrawdown; }
+
+    public Double getHigh24h() { return high24h; }
+
+    public void setHigh24h(Double high24h) { this.high24h = high24h; }
+
+    public Double getLow24h() { return low24h; }
+
+    public void setLow24h(Double low24h) { this.low24h = low24h; }
+
+    public Double getReturn1h() { return return1h; }
+
+    public void setReturn1h(Double return1h) { this.return1h = return1h; }
+
+    public Double getReturn24h() { return return24h; }
+
+    public void setReturn24h(Double return24h) { this.return24h = return24h; }
+
+    public Double getReturn7d() { return return7d; }
+
+    public void setReturn7d(Double return7d) { this.return7d = return7d; }
+}
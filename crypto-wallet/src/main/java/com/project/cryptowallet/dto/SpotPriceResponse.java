@@ -0,0 +1,40 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The latest price of one symbol, in the requested currency, and when it was fetched from the provider.
+ */
+public class SpotPriceResponse {
+
+    private String symbol;
+    private BigDecimal price;
+    private String currency;
+    private LocalDateTime fetchedAt;
+
+    public SpotPriceResponse() {}
+
+    public SpotPriceResponse(String symbol, BigDecimal price, String currency, LocalDateTime fetchedAt) {
+        this.symbol = symbol;
+        this.price = price;
+        this.currency = currency;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public BigDecimal getPrice() { return price; }
+
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public String getCurrency() { return currency; }
+
+    public void setCurrency(String currency) { this.currency = currency; }
+
+    public LocalDateTime getFetchedAt() { return fetchedAt; }
+
+    public void setFetchedAt(LocalDateTime fetchedAt) { this.fetchedAt = fetchedAt; }
+}
@@ -0,0 +1,16 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Latest stored price of one symbol.
+ */
+public interface SymbolPrice {
+
+    /**
+     * @return The upper-case asset symbol.
+     */
+    String getSymbol();
+
+    BigDecimal getPrice();
+}
@@ -0,0 +1,21 @@
+package com.project.cryptowallet.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Per-symbol aggregate computed by the database: total quantity and total value at the latest price.
+ */
+public interface SymbolTotal {
+
+    /**
+     * @return The upper-case asset symbol.
+     */
+    String getSymbol();
+
+    BigDecimal getQuantity();
+
+    /**
+     * @return Sum of quantity * latest price, or null if no row of this symbol has a price yet.
+     */
+    BigDecimal getValue();
+}
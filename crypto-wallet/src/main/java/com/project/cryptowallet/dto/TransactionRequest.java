@@ -0,0 +1,45 @@
+package com.project.cryptowallet.dto;
+
+import com.project.cryptowallet.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class TransactionRequest {
+
+    private String symbol;
+    private TransactionType type;
+    private BigDecimal quantity;
+    private BigDecimal price;
+    private LocalDateTime executedAt;
+
+    public TransactionRequest() {}
+
+    public TransactionRequest(String symbol, TransactionType type, BigDecimal quantity, BigDecimal price, LocalDateTime executedAt) {
+        this.symbol = symbol;
+        this.type = type;
+        this.quantity = quantity;
+        this.price = price;
+        this.executedAt = executedAt;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public void setSymbol(String symbol) { this.symbol = symbol; }
+
+    public TransactionType getType() { return type; }
+
+    public void setType(TransactionType type) { this.type = type; }
+
+    public BigDecimal getQuantity() { return quantity; }
+
+    public void setQuantity(BigDecimal quantity) { this.quantity = quantity; }
+
+    public BigDecimal getPrice() { return price; }
+
+    public void setPrice(BigDecimal price) { this.price = price; }
+
+    public LocalDateTime getExecutedAt() { return executedAt; }
+
+    public void setExecutedAt(LocalDateTime executedAt) { this.executedAt = executedAt; }
+}
@@ -9,6 +9,7 @@ public class WalletSummaryResponse {
     private BigDecimal bestPerformance;
     private String worstAsset;
     private BigDecimal worstPerformance;
+    private String currency = "USD";
 
     public WalletSummaryResponse() {}
 
@@ -39,4 +40,8 @@ public class WalletSummaryResponse {
     public BigDecimal getWorstPerformance() { return worstPerformance; }
 
     public void setWorstPerformance(BigDecimal worstPerformance) { this.worstPerformance = worstPerformance; }
+
+    public String getCurrency() { return currency; }
+
+    public void setCurrency(String currency) { this.currency = currency; }
 }
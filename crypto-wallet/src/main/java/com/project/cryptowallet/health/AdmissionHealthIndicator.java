@@ -0,0 +1,41 @@
+package com.project.cryptowallet.health;
+
+import com.project.cryptowallet.admission.AdmissionControl;
+import com.project.cryptowallet.admission.AdmissionLimiter;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports the current adaptive limit, load and rejections per admission-controlled endpoint.
+ * Always UP: shedding load is the intended behavior under overload, not a failure.
+ */
+@Component
+public class AdmissionHealthIndicator implements HealthIndicator {
+
+    private final AdmissionControl admissionControl;
+
+    public AdmissionHealthIndicator(AdmissionControl admissionControl) {
+        this.admissionControl = admissionControl;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = Health.up();
+        for (AdmissionLimiter limiter : admissionControl.getLimiters()) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("priority", limiter.getPriority());
+            details.put("limit", limiter.getLimit());
+            details.put("inFlight", limiter.getInFlight());
+            details.put("waiting", limiter.getWaiting());
+            details.put("latencyMillis", Math.round(limiter.getLatencyMillis() * 10) / 10.0);
+            details.put("admitted", limiter.getAdmitted());
+            details.put("rejected", limiter.getRejected());
+            builder.withDetail(limiter.getName(), details);
+        }
+        return builder.build();
+    }
+}
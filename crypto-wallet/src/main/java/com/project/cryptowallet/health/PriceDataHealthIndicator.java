@@ -0,0 +1,30 @@
+package com.project.cryptowallet.health;
+
+import com.project.cryptowallet.service.WalletService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports whether price data is available. Part of the readiness group only,
+ * so a CoinCap outage during warm-up takes the instance out of rotation without failing liveness.
+ */
+@Component
+public class PriceDataHealthIndicator implements HealthIndicator {
+
+    private final WalletService walletService;
+
+    public PriceDataHealthIndicator(WalletService walletService) {
+        this.walletService = walletService;
+    }
+
+    @Override
+    public Health health() {
+        if (walletService.isReady()) {
+            return Health.up().build();
+        }
+        return Health.outOfService()
+                .withDetail("reason", "Symbol map not loaded yet")
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.project.cryptowallet.health;
+
+import com.project.cryptowallet.client.HedgedPriceClient;
+import com.project.cryptowallet.client.PriceProvider;
+import com.project.cryptowallet.client.ProviderHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports success rate, p95 latency and score per price provider, so an outage of one provider
+ * is visible even while hedging keeps prices fresh. DOWN only when every provider is failing.
+ */
+@Component
+public class PriceProvidersHealthIndicator implements HealthIndicator {
+
+    private static final double HEALTHY_SUCCESS_RATE = 0.5;
+
+    private final HedgedPriceClient priceClient;
+
+    public PriceProvidersHealthIndicator(HedgedPriceClient priceClient) {
+        this.priceClient = priceClient;
+    }
+
+    @Override
+    public Health health() {
+        long now = System.currentTimeMillis();
+        boolean anyHealthy = false;
+        Health.Builder builder = Health.unknown();
+        for (PriceProvider provider : priceClient.getProviders()) {
+            ProviderHealth health = priceClient.getHealth(provider);
+            double successRate = health.getSuccessRate(now);
+            anyHealthy |= successRate >= HEALTHY_SUCCESS_RATE;
+
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("successRate", Math.round(successRate * 1000) / 1000.0);
+            details.put("p95Millis", health.getP95Millis());
+            details.put("score", Math.round(health.getScore(now) * 1000) / 1000.0);
+            builder.withDetail(provider.getName(), details);
+        }
+        return (anyHealthy ? builder.up() : builder.down()).build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.cryptowallet.model;
+
+public enum AlertStatus {
+    ACTIVE,
+    /** Fired; the notification is waiting for a successful delivery to every sink (the outbox). */
+    TRIGGERED,
+    /** Fired and delivered to every sink. */
+    DELIVERED
+}
@@ -0,0 +1,11 @@
+package com.project.cryptowallet.model;
+
+/**
+ * ABOVE fires when the price crosses up through the trigger price, BELOW when it crosses down.
+ * PERCENT_MOVE fires when the price moves the given percentage either way from the reference price.
+ */
+public enum AlertType {
+    ABOVE,
+    BELOW,
+    PERCENT_MOVE
+}
@@ -0,0 +1,50 @@
+package com.project.cryptowallet.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Positions derived from every ledger transaction up to and including {@code lastTransactionId}.
+ * Holdings at a later time are rebuilt from the latest snapshot plus the transactions after it.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_snapshot_as_of", columnList = "asOf"))
+public class HoldingsSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long lastTransactionId;
+
+    // Execution time of the last included transaction
+    private LocalDateTime asOf;
+
+    private LocalDateTime createdAt;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "holdings_snapshot_position", joinColumns = @JoinColumn(name = "snapshot_id"))
+    private List<SnapshotPosition> positions = new ArrayList<>();
+
+    public HoldingsSnapshot() {}
+
+    public HoldingsSnapshot(Long lastTransactionId, LocalDateTime asOf, List<SnapshotPosition> positions) {
+        this.lastTransactionId = lastTransactionId;
+        this.asOf = asOf;
+        this.positions = positions;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Long getId() { return id; }
+
+    public Long getLastTransactionId() { return lastTransactionId; }
+
+    public LocalDateTime getAsOf() { return asOf; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public List<SnapshotPosition> getPositions() { return positions; }
+}
@@ -0,0 +1,60 @@
+package com.project.cryptowallet.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only transaction ledger. Entries are never updated or deleted;
+ * holdings and cost basis are derived from them. IDs follow execution order.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_ledger_executed_at", columnList = "executedAt"))
+public class LedgerTransaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, updatable = false, precision = 38, scale = 18)
+    private BigDecimal quantity;
+
+    @Column(updatable = false, precision = 38, scale = 18)
+    private BigDecimal price;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime executedAt;
+
+    public LedgerTransaction() {}
+
+    public LedgerTransaction(String symbol, TransactionType type, BigDecimal quantity, BigDecimal price, LocalDateTime executedAt) {
+        this.symbol = symbol;
+        this.type = type;
+        this.quantity = quantity;
+        this.price = price;
+        this.executedAt = executedAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getSymbol() { return symbol; }
+
+    public TransactionType getType() { return type; }
+
+    public BigDecimal getQuantity() { return quantity; }
+
+    /**
+     * @return USD price per unit; for transfers in, the cost basis per unit (null means zero).
+     */
+    public BigDecimal getPrice() { return price; }
+
+    public LocalDateTime getExecutedAt() { return executedAt; }
+}
@@ -0,0 +1,94 @@
+package com.project.cryptowallet.model;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(indexes = @Index(name = "idx_alert_status_symbol", columnList = "status, symbol"))
+public class PriceAlert {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    private AlertType type;
+
+    private BigDecimal triggerPrice;
+
+    private BigDecimal percent;
+
+    private BigDecimal referencePrice;
+
+    @Enumerated(EnumType.STRING)
+    private AlertStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime triggeredAt;
+
+    private BigDecimal triggeredPrice;
+
+    // Comma-separated names of the sinks that accepted the notification, while the alert is TRIGGERED
+    private String deliveredSinks;
+
+    public PriceAlert() {}
+
+    public PriceAlert(String symbol, AlertType type, BigDecimal triggerPrice, BigDecimal percent, BigDecimal referencePrice) {
+        this.symbol = symbol;
+        this.type = type;
+        this.triggerPrice = triggerPrice;
+        this.percent = percent;
+        this.referencePrice = referencePrice;
+        this.status = AlertStatus.ACTIVE;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    /**
+     * @return The price whose upward crossing fires this alert, or null if it only fires downwards.
+     */
+    public BigDecimal getUpperLevel() {
+        return switch (type) {
+            case ABOVE -> triggerPrice;
+            case BELOW -> null;
+            case PERCENT_MOVE -> referencePrice.multiply(BigDecimal.ONE.add(percent.movePointLeft(2)));
+        };
+    }
+
+    /**
+     * @return The price whose downward crossing fires this alert, or null if it only fires upwards.
+     */
+    public BigDecimal getLowerLevel() {
+        return switch (type) {
+            case ABOVE -> null;
+            case BELOW -> triggerPrice;
+            case PERCENT_MOVE -> referencePrice.multiply(BigDecimal.ONE.subtract(percent.movePointLeft(2)));
+        };
+    }
+
+    public Long getId() { return id; }
+
+    public String getSymbol() { return symbol; }
+
+    public AlertType getType() { return type; }
+
+    public BigDecimal getTriggerPrice() { return triggerPrice; }
+
+    public BigDecimal getPercent() { return percent; }
+
+    public BigDecimal getReferencePrice() { return referencePrice; }
+
+    public AlertStatus getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getTriggeredAt() { return triggeredAt; }
+
+    public BigDecimal getTriggeredPrice() { return triggeredPrice; }
+
+    public String getDeliveredSinks() { return deliveredSinks; }
+}
@@ -0,0 +1,41 @@
+package com.project.cryptowallet.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.math.BigDecimal;
+
+/**
+ * The position in one symbol stored in a {@link HoldingsSnapshot}.
+ */
+@Embeddable
+public class SnapshotPosition {
+
+    private String symbol;
+
+    @Column(precision = 38, scale = 18)
+    private BigDecimal quantity;
+
+    @Column(precision = 38, scale = 18)
+    private BigDecimal costBasis;
+
+    @Column(precision = 38, scale = 18)
+    private BigDecimal realizedPnl;
+
+    public SnapshotPosition() {}
+
+    public SnapshotPosition(String symbol, BigDecimal quantity, BigDecimal costBasis, BigDecimal realizedPnl) {
+        this.symbol = symbol;
+        this.quantity = quantity;
+        this.costBasis = costBasis;
+        this.realizedPnl = realizedPnl;
+    }
+
+    public String getSymbol() { return symbol; }
+
+    public BigDecimal getQuantity() { return quantity; }
+
+    public BigDecimal getCostBasis() { return costBasis; }
+
+    public BigDecimal getRealizedPnl() { return realizedPnl; }
+}
@@ -0,0 +1,23 @@
+package com.project.cryptowallet.model;
+
+/**
+ * Kind of ledger transaction.
+ * <ul>
+ *     <li>BUY / SELL: trades at a price; a sell realizes profit or loss against the average cost.</li>
+ *     <li>TRANSFER_IN / TRANSFER_OUT: coins moved in or out of the wallet. An incoming transfer carries its
+ *     cost basis as the price (zero if unknown); an outgoing one takes its share of the average cost with it.</li>
+ * </ul>
+ */
+public enum TransactionType {
+    BUY,
+    SELL,
+    TRANSFER_IN,
+    TRANSFER_OUT;
+
+    /**
+     * @return true if the transaction reduces the position.
+     */
+    public boolean isOutflow() {
+        return this == SELL || this == TRANSFER_OUT;
+    }
+}
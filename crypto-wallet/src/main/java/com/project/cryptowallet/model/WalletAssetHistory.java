@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = @Index(name = "idx_history_symbol_time", columnList = "symbol, updated_at"))
 public class WalletAssetHistory {
 
     @Id
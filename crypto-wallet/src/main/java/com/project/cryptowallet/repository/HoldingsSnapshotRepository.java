@@ -0,0 +1,23 @@
+package com.project.cryptowallet.repository;
+
+import com.project.cryptowallet.model.HoldingsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface HoldingsSnapshotRepository extends JpaRepository<HoldingsSnapshot, Long> {
+
+    /**
+     * @return The snapshot covering the most transactions, if any.
+     */
+    Optional<HoldingsSnapshot> findFirstByOrderByLastTransactionIdDesc();
+
+    /**
+     * Find the latest snapshot taken at or before a point in time.
+     *
+     * @param asOf The target time.
+     * @return The snapshot, if any.
+     */
+    Optional<HoldingsSnapshot> findFirstByAsOfLessThanEqualOrderByLastTransactionIdDesc(LocalDateTime asOf);
+}
@@ -0,0 +1,30 @@
+package com.project.cryptowallet.repository;
+
+import com.project.cryptowallet.model.LedgerTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface LedgerTransactionRepository extends JpaRepository<LedgerTransaction, Long> {
+
+    /**
+     * Keyset page of transactions after a given ID.
+     *
+     * @param afterId ID of the last transaction already read.
+     * @param limit   Maximum number of transactions to return.
+     * @return Transactions in ledger order.
+     */
+    List<LedgerTransaction> findByIdGreaterThanOrderByIdAsc(long afterId, Limit limit);
+
+    /**
+     * Keyset page of transactions after a given ID, executed at or before 'until'.
+     *
+     * @param afterId ID of the last transaction already read.
+     * @param until   Inclusive upper bound on the execution time.
+     * @param limit   Maximum number of transactions to return.
+     * @return Transactions in ledger order.
+     */
+    List<LedgerTransaction> findByIdGreaterThanAndExecutedAtLessThanEqualOrderByIdAsc(long afterId, LocalDateTime until, Limit limit);
+}
@@ -0,0 +1,62 @@
+package com.project.cryptowallet.repository;
+
+import com.project.cryptowallet.model.AlertStatus;
+import com.project.cryptowallet.model.PriceAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long> {
+
+    List<PriceAlert> findByStatus(AlertStatus status);
+
+    List<PriceAlert> findBySymbol(String symbol);
+
+    /**
+     * Move an alert from ACTIVE to TRIGGERED. The status check makes firing exactly-once:
+     * only the first caller for a given alert sees an update count of 1. TRIGGERED alerts
+     * stay in the delivery outbox until {@link #markDelivered} clears them.
+     *
+     * @param id          The alert ID.
+     * @param price       The price that crossed the trigger.
+     * @param triggeredAt The time of the crossing.
+     * @return 1 if this call fired the alert, 0 if it was already triggered or deleted.
+     */
+    @Modifying
+    @Transactional
+    @Query("update PriceAlert a set a.status = com.project.cryptowallet.model.AlertStatus.TRIGGERED, " +
+            "a.triggeredPrice = :price, a.triggeredAt = :triggeredAt " +
+            "where a.id = :id and a.status = com.project.cryptowallet.model.AlertStatus.ACTIVE")
+    int markTriggered(@Param("id") Long id, @Param("price") BigDecimal price, @Param("triggeredAt") LocalDateTime triggeredAt);
+
+    /**
+     * Record which sinks accepted a fired alert, so redelivery only retries the others.
+     *
+     * @param id    The alert ID.
+     * @param sinks Comma-separated sink names.
+     * @return 1 if the alert is still in the outbox, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("update PriceAlert a set a.deliveredSinks = :sinks " +
+            "where a.id = :id and a.status = com.project.cryptowallet.model.AlertStatus.TRIGGERED")
+    int recordDeliveredSinks(@Param("id") Long id, @Param("sinks") String sinks);
+
+    /**
+     * Clear an alert from the delivery outbox once every sink has accepted its notification.
+     *
+     * @param id The alert ID.
+     * @return 1 if the alert moved from TRIGGERED to DELIVERED, 0 otherwise.
+     */
+    @Modifying
+    @Transactional
+    @Query("update PriceAlert a set a.status = com.project.cryptowallet.model.AlertStatus.DELIVERED " +
+            "where a.id = :id and a.status = com.project.cryptowallet.model.AlertStatus.TRIGGERED")
+    int markDelivered(@Param("id") Long id);
+}
@@ -1,9 +1,19 @@
 package com.project.cryptowallet.repository;
 
+import com.project.cryptowallet.dto.PriceTick;
 import com.project.cryptowallet.model.WalletAssetHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface WalletAssetHistoryRepository extends JpaRepository<WalletAssetHistory, Long> {
 
@@ -15,6 +25,55 @@ public interface WalletAssetHistoryRepository extends JpaRepository<WalletAssetH
      * @return A list of WalletAssetHistory entries ordered by updatedAt descending.
      */
     List<WalletAssetHistory> findByWalletAssetIdAndUpdatedAtBeforeOrderByUpdatedAtDesc(Long walletAssetId, LocalDateTime timestamp);
-}
 
+    /**
+     * Keyset page of price ticks for a symbol, strictly after (after, afterId) and at or before 'until'.
+     * Rows are returned as projections, so no entities are hydrated.
+     *
+     * @param symbol  The upper-case asset symbol.
+     * @param after   Timestamp of the last tick already read.
+     * @param afterId ID of the last tick already read.
+     * @param until   Inclusive upper bound.
+     * @param limit   Maximum number of ticks to return.
+     * @return Ticks ordered by updatedAt, then id.
+     */
+    @Query("select h.id as id, h.price as price, h.updatedAt as updatedAt from WalletAssetHistory h " +
+            "where h.symbol = :symbol " +
+            "and (h.updatedAt > :after or (h.updatedAt = :after and h.id > :afterId)) " +
+            "and h.updatedAt <= :until " +
+            "order by h.updatedAt, h.id")
+    List<PriceTick> findTicksAfter(@Param("symbol") String symbol,
+                                   @Param("after") LocalDateTime after,
+                                   @Param("afterId") long afterId,
+                                   @Param("until") LocalDateTime until,
+                                   Limit limit);
 
+    /**
+     * Find the latest price tick for a symbol at or before the given time.
+     *
+     * @param symbol    The upper-case asset symbol.
+     * @param timestamp The target timestamp.
+     * @return The latest tick, if any.
+     */
+    Optional<PriceTick> findFirstBySymbolAndUpdatedAtLessThanEqualOrderByUpdatedAtDescIdDesc(String symbol, LocalDateTime timestamp);
+
+    /**
+     * Stream every price tick of a symbol in [from, to] from a forward-only cursor, as projections.
+     * The caller must consume and close the stream inside a read-only transaction.
+     *
+     * @param symbol The upper-case asset symbol.
+     * @param from   Inclusive start.
+     * @param to     Inclusive end.
+     * @return Ticks ordered by updatedAt, then id.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select h.id as id, h.price as price, h.updatedAt as updatedAt from WalletAssetHistory h " +
+            "where h.symbol = :symbol and h.updatedAt >= :from and h.updatedAt <= :to " +
+            "order by h.updatedAt, h.id")
+    Stream<PriceTick> streamTicks(@Param("symbol") String symbol,
+                                  @Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to);
+}
@@ -1,7 +1,55 @@
 package com.project.cryptowallet.repository;
 
+import com.project.cryptowallet.dto.AssetHolding;
+import com.project.cryptowallet.dto.SymbolPrice;
+import com.project.cryptowallet.dto.SymbolTotal;
 import com.project.cryptowallet.model.WalletAsset;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
 
 public interface WalletAssetRepository extends JpaRepository<WalletAsset, Long> {
+
+    /**
+     * List every wallet row as a projection (id, upper-case symbol, quantity), without hydrating entities.
+     *
+     * @return One projection per wallet row.
+     */
+    @Query("select a.id as id, upper(a.symbol) as symbol, a.quantity as quantity from WalletAsset a")
+    List<AssetHolding> findAllHoldings();
+
+    /**
+     * Aggregate the wallet per symbol in the database.
+     *
+     * @return Total quantity and value (at the latest price) per upper-case symbol.
+     */
+    @Query("select upper(a.symbol) as symbol, sum(a.quantity) as quantity, sum(a.quantity * a.latestPrice) as value " +
+            "from WalletAsset a group by upper(a.symbol)")
+    List<SymbolTotal> sumBySymbol();
+
+    /**
+     * The latest stored price per symbol. Every row of a symbol is updated together, so any row's price will do.
+     *
+     * @return One price per upper-case symbol that has been priced at least once.
+     */
+    @Query("select upper(a.symbol) as symbol, max(a.latestPrice) as price from WalletAsset a " +
+            "where a.latestPrice is not null group by upper(a.symbol)")
+    List<SymbolPrice> findLatestPrices();
+
+    /**
+     * Set the latest price of every row holding a symbol in one bulk update.
+     *
+     * @param symbol The upper-case asset symbol.
+     * @param price  The new latest price.
+     * @return The number of rows updated.
+     */
+    @Modifying
+    @Transactional
+    @Query("update WalletAsset a set a.latestPrice = :price where upper(a.symbol) = :symbol")
+    int updateLatestPrice(@Param("symbol") String symbol, @Param("price") BigDecimal price);
 }
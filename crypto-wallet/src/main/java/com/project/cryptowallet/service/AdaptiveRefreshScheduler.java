@@ -0,0 +1,224 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.RefreshBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * AdaptiveRefreshScheduler keeps one refresh deadline per symbol in a priority queue ordered by due time.
+ * Each symbol's interval adapts to its observed volatility and held value: large or volatile positions
+ * are refreshed often, dust is refreshed rarely. Interval changes apply to the queue in place, and
+ * symbols are only dispatched while the shared {@link RefreshBudget} has room for their provider calls.
+ */
+@Component
+public class AdaptiveRefreshScheduler {
+
+    // Per-refresh volatility at which the interval is halved (0.5%)
+    private static final double REFERENCE_VOLATILITY = 0.005;
+    // Weight of the newest squared return in the volatility EWMA
+    private static final double VOLATILITY_ALPHA = 0.2;
+
+    private final PriorityQueue<SymbolSchedule> dueQueue =
+            new PriorityQueue<>(Comparator.comparingLong(s -> s.nextDueMillis));
+    private final Map<String, SymbolSchedule> schedules = new HashMap<>();
+
+    private final RefreshBudget budget;
+    private final long minIntervalMillis;
+    private final long maxIntervalMillis;
+    private final BigDecimal dustValue;
+    private final BigDecimal largeValue;
+    private final long dustMultiplier;
+    private long baseIntervalMillis;
+
+    public AdaptiveRefreshScheduler(@Value("${price.update.frequency:10}") long baseIntervalSeconds,
+                                    @Value("${price.refresh.min-interval:2}") long minIntervalSeconds,
+                                    @Value("${price.refresh.max-interval:600}") long maxIntervalSeconds,
+                                    @Value("${price.refresh.dust-value:10}") BigDecimal dustValue,
+                                    @Value("${price.refresh.large-value:10000}") BigDecimal largeValue,
+                                    @Value("${price.refresh.dust-multiplier:30}") long dustMultiplier,
+                                    RefreshBudget budget) {
+        this.baseIntervalMillis = baseIntervalSeconds * 1000;
+        this.minIntervalMillis = minIntervalSeconds * 1000;
+        this.maxIntervalMillis = maxIntervalSeconds * 1000;
+        this.dustValue = dustValue;
+        this.largeValue = largeValue;
+        this.dustMultiplier = dustMultiplier;
+        this.budget = budget;
+    }
+
+    /**
+     * Start scheduling a symbol. New symbols are due immediately; known symbols are left untouched.
+     *
+     * @param symbol    Upper-case asset symbol.
+     * @param nowMillis Current time in milliseconds.
+     */
+    public synchronized void track(String symbol, long nowMillis) {
+        schedules.computeIfAbsent(symbol, s -> {
+            SymbolSchedule schedule = new SymbolSchedule(s);
+            schedule.intervalMillis = computeInterval(schedule);
+            schedule.nextDueMillis = nowMillis;
+            schedule.queued = true;
+            dueQueue.offer(schedule);
+            return schedule;
+        });
+    }
+
+    /**
+     * Stop scheduling a symbol, e.g. once nothing is held in it any more. A refresh already
+     * in flight for it only tracks it again if it completes with a non-zero holding value.
+     *
+     * @param symbol Upper-case asset symbol.
+     */
+    public synchronized void untrack(String symbol) {
+        SymbolSchedule schedule = schedules.remove(symbol);
+        if (schedule != null && schedule.queued) {
+            dueQueue.remove(schedule);
+        }
+    }
+
+    /**
+     * Remove and return every symbol that is due, as far as the call budget allows.
+     * The budget is not charged here: the provider clients charge it for each call they make.
+     * Returned symbols stay out of the queue until {@link #completed} or {@link #failed} is called.
+     *
+     * @param nowMillis Current time in milliseconds.
+     * @return Symbols to refresh now, most overdue first.
+     */
+    public synchronized List<String> pollDue(long nowMillis) {
+        List<String> due = new ArrayList<>();
+        long available = budget.available(nowMillis);
+        while (!dueQueue.isEmpty() && dueQueue.peek().nextDueMillis <= nowMillis && due.size() < available) {
+            SymbolSchedule schedule = dueQueue.poll();
+            schedule.queued = false;
+            due.add(schedule.symbol);
+        }
+        return due;
+    }
+
+    /**
+     * @param symbol Upper-case asset symbol.
+     * @return true if the symbol is scheduled.
+     */
+    public synchronized boolean isTracked(String symbol) {
+        return schedules.containsKey(symbol);
+    }
+
+    /**
+     * Record a fresh price for a symbol and schedule its next refresh.
+     *
+     * @param symbol       Upper-case asset symbol.
+     * @param price        The latest price.
+     * @param holdingValue Total value held in this symbol, or null if unknown.
+     * @param nowMillis    Current time in milliseconds.
+     */
+    public synchronized void completed(String symbol, BigDecimal price, BigDecimal holdingValue, long nowMillis) {
+        if (holdingValue != null && holdingValue.signum() == 0) {
+            // Nothing held any more, so nothing to keep fresh
+            untrack(symbol);
+            return;
+        }
+        SymbolSchedule schedule = schedules.computeIfAbsent(symbol, SymbolSchedule::new);
+
+        double current = price.doubleValue();
+        if (schedule.lastPrice > 0 && current > 0) {
+            double logReturn = Math.log(current / schedule.lastPrice);
+            schedule.variance = (1 - VOLATILITY_ALPHA) * schedule.variance + VOLATILITY_ALPHA * logReturn * logReturn;
+        }
+        schedule.lastPrice = current;
+        if (holdingValue != null) {
+            schedule.holdingValue = holdingValue;
+        }
+        schedule.lastRefreshMillis = nowMillis;
+        schedule.intervalMillis = computeInterval(schedule);
+        reschedule(schedule, nowMillis + schedule.intervalMillis);
+    }
+
+    /**
+     * Reschedule a symbol whose refresh failed, keeping its current interval.
+     *
+     * @param symbol    Upper-case asset symbol.
+     * @param nowMillis Current time in milliseconds.
+     */
+    public synchronized void failed(String symbol, long nowMillis) {
+        SymbolSchedule schedule = schedules.get(symbol);
+        if (schedule != null) {
+            reschedule(schedule, nowMillis + schedule.intervalMillis);
+        }
+    }
+
+    /**
+     * Change the base interval. Every tracked symbol is re-timed in place from its last refresh.
+     *
+     * @param baseIntervalSeconds The new base interval in seconds.
+     */
+    public synchronized void setBaseIntervalSeconds(long baseIntervalSeconds) {
+        this.baseIntervalMillis = baseIntervalSeconds * 1000;
+
+        dueQueue.clear();
+        for (SymbolSchedule schedule : schedules.values()) {
+            schedule.intervalMillis = computeInterval(schedule);
+            if (schedule.queued) {
+                schedule.nextDueMillis = schedule.lastRefreshMillis + schedule.intervalMillis;
+                dueQueue.offer(schedule);
+            }
+        }
+    }
+
+    public synchronized long getBaseIntervalMillis() {
+        return baseIntervalMillis;
+    }
+
+    /**
+     * @param symbol Upper-case asset symbol.
+     * @return The current refresh interval in milliseconds, or -1 if the symbol is not tracked.
+     */
+    public synchronized long getIntervalMillis(String symbol) {
+        SymbolSchedule schedule = schedules.get(symbol);
+        return schedule != null ? schedule.intervalMillis : -1;
+    }
+
+    private void reschedule(SymbolSchedule schedule, long nextDueMillis) {
+        if (schedule.queued) {
+            dueQueue.remove(schedule);
+        }
+        schedule.nextDueMillis = nextDueMillis;
+        schedule.queued = true;
+        dueQueue.offer(schedule);
+    }
+
+    private long computeInterval(SymbolSchedule schedule) {
+        double interval = baseIntervalMillis / (1 + Math.sqrt(schedule.variance) / REFERENCE_VOLATILITY);
+
+        if (schedule.holdingValue != null) {
+            if (schedule.holdingValue.compareTo(dustValue) < 0) {
+                interval *= dustMultiplier;
+            } else if (schedule.holdingValue.compareTo(largeValue) >= 0) {
+                interval /= 2;
+            }
+        }
+        return Math.max(minIntervalMillis, Math.min(maxIntervalMillis, Math.round(interval)));
+    }
+
+    private static final class SymbolSchedule {
+        private final String symbol;
+        private double lastPrice;
+        private double variance;
+        private BigDecimal holdingValue;
+        private long intervalMillis;
+        private long nextDueMillis;
+        private long lastRefreshMillis;
+        private boolean queued;
+
+        private SymbolSchedule(String symbol) {
+            this.symbol = symbol;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.project.cryptowallet.service;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * AlertIndex keeps active alert levels per symbol in two sorted maps: levels that fire on an upward
+ * crossing and levels that fire on a downward crossing. A price move from 'old' to 'new' only visits
+ * the sub-range of levels between the two prices, so the cost per tick depends on the number of
+ * alerts crossed, not on the number registered. Fired alerts are removed, so each fires at most once.
+ */
+public class AlertIndex {
+
+    private final Map<String, SymbolIndex> bySymbol = new ConcurrentHashMap<>();
+
+    /**
+     * Register an alert.
+     *
+     * @param alertId    The alert ID.
+     * @param symbol     Upper-case asset symbol.
+     * @param upperLevel Fires when the price rises from below to at or above this level (nullable).
+     * @param lowerLevel Fires when the price falls from above to at or below this level (nullable).
+     */
+    public void add(long alertId, String symbol, BigDecimal upperLevel, BigDecimal lowerLevel) {
+        bySymbol.computeIfAbsent(symbol, s -> new SymbolIndex()).add(alertId, upperLevel, lowerLevel);
+    }
+
+    /**
+     * Unregister an alert.
+     *
+     * @return true if the alert was still indexed.
+     */
+    public boolean remove(long alertId, String symbol) {
+        SymbolIndex index = bySymbol.get(symbol);
+        return index != null && index.remove(alertId);
+    }
+
+    /**
+     * Remove and return every alert crossed by a move from 'oldPrice' to 'newPrice'.
+     *
+     * @return IDs of the crossed alerts, empty if none.
+     */
+    public List<Long> crossed(String symbol, BigDecimal oldPrice, BigDecimal newPrice) {
+        SymbolIndex index = bySymbol.get(symbol);
+        if (index == null) {
+            return List.of();
+        }
+        return index.crossed(oldPrice, newPrice);
+    }
+
+    public int size() {
+        return bySymbol.values().stream().mapToInt(SymbolIndex::size).sum();
+    }
+
+    private static final class SymbolIndex {
+
+        private final NavigableMap<BigDecimal, Set<Long>> upper = new TreeMap<>();
+        private final NavigableMap<BigDecimal, Set<Long>> lower = new TreeMap<>();
+        // Both levels of each alert, so firing one side also removes the other
+        private final Map<Long, BigDecimal[]> levels = new HashMap<>();
+
+        synchronized void add(long alertId, BigDecimal upperLevel, BigDecimal lowerLevel) {
+            if (upperLevel != null) {
+                upper.computeIfAbsent(upperLevel, l -> new HashSet<>()).add(alertId);
+            }
+            if (lowerLevel != null) {
+                lower.computeIfAbsent(lowerLevel, l -> new HashSet<>()).add(alertId);
+            }
+            levels.put(alertId, new BigDecimal[]{upperLevel, lowerLevel});
+        }
+
+        synchronized boolean remove(long alertId) {
+            BigDecimal[] alertLevels = levels.remove(alertId);
+            if (alertLevels == null) {
+                return false;
+            }
+            removeLevel(upper, alertLevels[0], alertId);
+            removeLevel(lower, alertLevels[1], alertId);
+            return true;
+        }
+
+        synchronized List<Long> crossed(BigDecimal oldPrice, BigDecimal newPrice) {
+            int direction = newPrice.compareTo(oldPrice);
+            if (direction == 0) {
+                return List.of();
+            }
+            NavigableMap<BigDecimal, Set<Long>> range = direction > 0
+                    ? upper.subMap(oldPrice, false, newPrice, true)
+                    : lower.subMap(newPrice, true, oldPrice, false);
+            if (range.isEmpty()) {
+                return List.of();
+            }
+
+            List<Long> fired = new ArrayList<>();
+            range.values().forEach(fired::addAll);
+            fired.forEach(this::remove);
+            return fired;
+        }
+
+        synchronized int size() {
+            return levels.size();
+        }
+
+        private static void removeLevel(NavigableMap<BigDecimal, Set<Long>> side, BigDecimal level, long alertId) {
+            if (level == null) {
+                return;
+            }
+            Set<Long> ids = side.get(level);
+            if (ids != null && ids.remove(alertId) && ids.isEmpty()) {
+                side.remove(level);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.project.cryptowallet.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Converts USD amounts into one target currency: a single multiplication by a precomputed factor,
+ * rounded to the currency's scale (2 for fiat, 8 for crypto). Immutable.
+ */
+public final class CurrencyConversion {
+
+    public static final String BASE_CURRENCY = "USD";
+    public static final CurrencyConversion USD = new CurrencyConversion(BASE_CURRENCY, BigDecimal.ONE, 2);
+
+    private final String currency;
+    private final BigDecimal unitsPerUsd;
+    private final int scale;
+
+    public CurrencyConversion(String currency, BigDecimal unitsPerUsd, int scale) {
+        this.currency = currency;
+        this.unitsPerUsd = unitsPerUsd;
+        this.scale = scale;
+    }
+
+    public String getCurrency() { return currency; }
+
+    public BigDecimal getUnitsPerUsd() { return unitsPerUsd; }
+
+    public int getScale() { return scale; }
+
+    /**
+     * @param usdAmount An amount in USD.
+     * @return The amount in this currency, at this currency's scale.
+     */
+    public BigDecimal apply(BigDecimal usdAmount) {
+        return usdAmount.multiply(unitsPerUsd).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
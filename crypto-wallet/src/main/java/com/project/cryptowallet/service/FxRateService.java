@@ -0,0 +1,24 @@
+package com.project.cryptowallet.service;
+
+/**
+ * FxRateService converts USD valuations into other currencies from a periodically refreshed snapshot
+ * of the provider's rates, so a conversion never costs a remote call.
+ */
+public interface FxRateService {
+
+    /**
+     * Look up the conversion from USD into a currency.
+     * - If 'currency' is null, blank or USD, the identity conversion is returned without needing any rates.
+     *
+     * @param currency Currency symbol in any case (e.g., "eur", "BTC").
+     * @return The conversion to apply to USD amounts.
+     * @throws IllegalArgumentException    if the currency is unknown.
+     * @throws FxRatesUnavailableException if no rates have been loaded yet.
+     */
+    CurrencyConversion conversion(String currency);
+
+    /**
+     * Fetch the rates and replace the current snapshot.
+     */
+    void refreshRates();
+}
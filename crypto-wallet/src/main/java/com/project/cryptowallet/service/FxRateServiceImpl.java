@@ -0,0 +1,79 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.CoinCapClient;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class FxRateServiceImpl implements FxRateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxRateServiceImpl.class);
+
+    private final CoinCapClient coinCapClient;
+    private final long refreshIntervalSeconds;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fx-rates");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile FxRates rates;
+
+    public FxRateServiceImpl(CoinCapClient coinCapClient,
+                             @Value("${fx.refresh-interval:300}") long refreshIntervalSeconds) {
+        this.coinCapClient = coinCapClient;
+        this.refreshIntervalSeconds = refreshIntervalSeconds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, refreshIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public CurrencyConversion conversion(String currency) {
+        if (currency == null || currency.isBlank() || currency.equalsIgnoreCase(CurrencyConversion.BASE_CURRENCY)) {
+            return CurrencyConversion.USD;
+        }
+        FxRates current = rates;
+        if (current == null) {
+            // Loading is left to the startup and scheduled refresh, so requests never wait on the provider
+            throw new FxRatesUnavailableException("FX rates are not available yet");
+        }
+        String symbol = currency.trim().toUpperCase();
+        return current.conversion(symbol)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported currency: " + symbol));
+    }
+
+    @Override
+    public void refreshRates() {
+        FxRates refreshed = FxRates.from(coinCapClient.fetchRates(), LocalDateTime.now());
+        rates = refreshed;
+        logger.info("FX rates refreshed: {} currencies.", refreshed.size());
+    }
+
+    private void refreshQuietly() {
+        try {
+            refreshRates();
+        } catch (Exception e) {
+            // Keep serving the previous snapshot
+            logger.warn("FX rate refresh failed, keeping rates from {}: {}",
+                    rates != null ? rates.getFetchedAt() : "never", e.getMessage());
+        }
+    }
+}
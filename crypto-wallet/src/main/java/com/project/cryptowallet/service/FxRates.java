@@ -0,0 +1,69 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.FxRate;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the FX rates, with one precomputed {@link CurrencyConversion} per currency.
+ * A refresh builds a new snapshot and swaps the reference, so readers never see a partial update.
+ */
+public final class FxRates {
+
+    private static final int FIAT_SCALE = 2;
+    private static final int CRYPTO_SCALE = 8;
+
+    private final Map<String, CurrencyConversion> conversions;
+    private final LocalDateTime fetchedAt;
+
+    private FxRates(Map<String, CurrencyConversion> conversions, LocalDateTime fetchedAt) {
+        this.conversions = conversions;
+        this.fetchedAt = fetchedAt;
+    }
+
+    /**
+     * Build a snapshot from the provider's rates. Entries without a symbol or a positive rate are skipped.
+     *
+     * @param rates     USD value of one unit of each currency.
+     * @param fetchedAt When the rates were fetched.
+     */
+    public static FxRates from(List<FxRate> rates, LocalDateTime fetchedAt) {
+        Map<String, CurrencyConversion> conversions = new HashMap<>();
+        conversions.put(CurrencyConversion.BASE_CURRENCY, CurrencyConversion.USD);
+        for (FxRate rate : rates) {
+            if (rate.getSymbol() == null || rate.getRateUsd() == null || rate.getRateUsd().signum() <= 0) {
+                continue;
+            }
+            String symbol = rate.getSymbol().toUpperCase();
+            if (conversions.containsKey(symbol)) {
+                continue;
+            }
+            int scale = "fiat".equalsIgnoreCase(rate.getType()) ? FIAT_SCALE : CRYPTO_SCALE;
+            BigDecimal unitsPerUsd = BigDecimal.ONE.divide(rate.getRateUsd(), MathContext.DECIMAL64);
+            conversions.put(symbol, new CurrencyConversion(symbol, unitsPerUsd, scale));
+        }
+        return new FxRates(Map.copyOf(conversions), fetchedAt);
+    }
+
+    /**
+     * @param currency Upper-case currency symbol.
+     * @return The conversion from USD, if the currency is known.
+     */
+    public Optional<CurrencyConversion> conversion(String currency) {
+        return Optional.ofNullable(conversions.get(currency));
+    }
+
+    public int size() {
+        return conversions.size();
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+}
@@ -0,0 +1,12 @@
+package com.project.cryptowallet.service;
+
+/**
+ * Thrown when a conversion is requested before the first FX rate snapshot has been loaded.
+ * Callers should retry once the background refresh has succeeded.
+ */
+public class FxRatesUnavailableException extends RuntimeException {
+
+    public FxRatesUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,234 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.PriceTick;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * HistoryReplayEngine computes the value of a fixed set of holdings at regular steps over a past time range.
+ * The work is split with fork-join across groups of symbols (partial values are summed) and across
+ * step ranges (results are concatenated). Each leaf reads its symbols' ticks page by page in time order
+ * and merges them with a k-way merge, so memory stays bounded by the page size and the output length,
+ * however many ticks the range holds.
+ */
+public class HistoryReplayEngine {
+
+    /**
+     * Source of price ticks for one symbol, ordered by (updatedAt, id).
+     */
+    public interface TickSource {
+
+        /**
+         * Next page of ticks strictly after the (after, afterId) position and at or before 'until'.
+         */
+        List<PriceTick> nextPage(String symbol, LocalDateTime after, long afterId, LocalDateTime until, int limit);
+
+        /**
+         * Latest price at or before the given time, or null if the symbol has no earlier tick.
+         */
+        BigDecimal priceAtOrBefore(String symbol, LocalDateTime at);
+    }
+
+    private final TickSource tickSource;
+    private final ForkJoinPool pool;
+    private final int pageSize;
+    private final int maxSymbolsPerTask;
+    private final int maxStepsPerTask;
+
+    public HistoryReplayEngine(TickSource tickSource, ForkJoinPool pool,
+                               int pageSize, int maxSymbolsPerTask, int maxStepsPerTask) {
+        this.tickSource = tickSource;
+        this.pool = pool;
+        this.pageSize = pageSize;
+        this.maxSymbolsPerTask = maxSymbolsPerTask;
+        this.maxStepsPerTask = maxStepsPerTask;
+    }
+
+    /**
+     * Replay the holdings over 'steps' points starting at 'from'.
+     * A symbol contributes nothing until its first known price.
+     *
+     * @param holdings    Quantity held per symbol; every quantity must be present.
+     * @param from        Time of the first point.
+     * @param stepSeconds Distance between points in seconds.
+     * @param steps       Number of points.
+     * @return Wallet value at each point.
+     */
+    public double[] replay(Map<String, BigDecimal> holdings, LocalDateTime from, long stepSeconds, int steps) {
+        String[] symbols = holdings.keySet().toArray(new String[0]);
+        double[] quantities = new double[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            BigDecimal quantity = holdings.get(symbols[i]);
+            if (quantity == null) {
+                throw new IllegalArgumentException("No quantity for " + symbols[i]);
+            }
+            quantities[i] = quantity.doubleValue();
+        }
+        if (symbols.length == 0 || steps == 0) {
+            return new double[steps];
+        }
+        return pool.invoke(new ReplayTask(symbols, quantities, from, stepSeconds, 0, symbols.length, 0, steps));
+    }
+
+    private final class ReplayTask extends RecursiveTask<double[]> {
+
+        private final String[] symbols;
+        private final double[] quantities;
+        private final LocalDateTime from;
+        private final long stepSeconds;
+        private final int symbolLo, symbolHi;
+        private final int stepLo, stepHi;
+
+        private ReplayTask(String[] symbols, double[] quantities, LocalDateTime from, long stepSeconds,
+                           int symbolLo, int symbolHi, int stepLo, int stepHi) {
+            this.symbols = symbols;
+            this.quantities = quantities;
+            this.from = from;
+            this.stepSeconds = stepSeconds;
+            this.symbolLo = symbolLo;
+            this.symbolHi = symbolHi;
+            this.stepLo = stepLo;
+            this.stepHi = stepHi;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (symbolHi - symbolLo > maxSymbolsPerTask) {
+                int mid = (symbolLo + symbolHi) >>> 1;
+                ReplayTask left = new ReplayTask(symbols, quantities, from, stepSeconds, symbolLo, mid, stepLo, stepHi);
+                ReplayTask right = new ReplayTask(symbols, quantities, from, stepSeconds, mid, symbolHi, stepLo, stepHi);
+                left.fork();
+                double[] sum = right.compute();
+                double[] other = left.join();
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] += other[i];
+                }
+                return sum;
+            }
+            if (stepHi - stepLo > maxStepsPerTask) {
+                int mid = (stepLo + stepHi) >>> 1;
+                ReplayTask left = new ReplayTask(symbols, quantities, from, stepSeconds, symbolLo, symbolHi, stepLo, mid);
+                ReplayTask right = new ReplayTask(symbols, quantities, from, stepSeconds, symbolLo, symbolHi, mid, stepHi);
+                left.fork();
+                double[] tail = right.compute();
+                double[] head = left.join();
+                double[] all = new double[head.length + tail.length];
+                System.arraycopy(head, 0, all, 0, head.length);
+                System.arraycopy(tail, 0, all, head.length, tail.length);
+                return all;
+            }
+            return replayLeaf();
+        }
+
+        /**
+         * K-way merge of this group's tick streams, sampling the group value at each step boundary.
+         */
+        private double[] replayLeaf() {
+            int groupSize = symbolHi - symbolLo;
+            LocalDateTime start = stepTime(stepLo);
+            LocalDateTime end = stepTime(stepHi - 1);
+
+            double[] prices = new double[groupSize];
+            PriorityQueue<TickCursor> heads = new PriorityQueue<>(Comparator
+                    .comparing((TickCursor c) -> c.head().getUpdatedAt())
+                    .thenComparing(c -> c.head().getId()));
+            for (int i = 0; i < groupSize; i++) {
+                String symbol = symbols[symbolLo + i];
+                BigDecimal seed = tickSource.priceAtOrBefore(symbol, start);
+                prices[i] = seed != null ? seed.doubleValue() : 0;
+
+                // Long.MAX_VALUE skips every tick at 'start' itself, those are covered by the seed
+                TickCursor cursor = new TickCursor(symbol, i, start, Long.MAX_VALUE, end);
+                if (cursor.advance()) {
+                    heads.offer(cursor);
+                }
+            }
+
+            double[] values = new double[stepHi - stepLo];
+            values[0] = groupValue(prices);
+            for (int step = stepLo + 1; step < stepHi; step++) {
+                LocalDateTime at = stepTime(step);
+                while (!heads.isEmpty() && !heads.peek().head().getUpdatedAt().isAfter(at)) {
+                    TickCursor cursor = heads.poll();
+                    prices[cursor.index] = cursor.head().getPrice().doubleValue();
+                    if (cursor.advance()) {
+                        heads.offer(cursor);
+                    }
+                }
+                values[step - stepLo] = groupValue(prices);
+            }
+            return values;
+        }
+
+        private double groupValue(double[] prices) {
+            double value = 0;
+            for (int i = 0; i < prices.length; i++) {
+                value += quantities[symbolLo + i] * prices[i];
+            }
+            return value;
+        }
+
+        private LocalDateTime stepTime(int step) {
+            return from.plusSeconds(step * stepSeconds);
+        }
+    }
+
+    /**
+     * Pages through one symbol's ticks using keyset pagination on (updatedAt, id).
+     */
+    private final class TickCursor {
+
+        private final String symbol;
+        private final int index;
+        private final LocalDateTime until;
+        private LocalDateTime afterTime;
+        private long afterId;
+        private List<PriceTick> page = new ArrayList<>();
+        private int position = -1;
+        private boolean exhausted;
+
+        private TickCursor(String symbol, int index, LocalDateTime afterTime, long afterId, LocalDateTime until) {
+            this.symbol = symbol;
+            this.index = index;
+            this.afterTime = afterTime;
+            this.afterId = afterId;
+            this.until = until;
+        }
+
+        private PriceTick head() {
+            return page.get(position);
+        }
+
+        /**
+         * Move to the next tick, fetching the next page when the current one is used up.
+         *
+         * @return false once the stream is exhausted.
+         */
+        private boolean advance() {
+            position++;
+            if (position < page.size()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            if (!page.isEmpty()) {
+                PriceTick last = page.get(page.size() - 1);
+                afterTime = last.getUpdatedAt();
+                afterId = last.getId();
+            }
+            page = tickSource.nextPage(symbol, afterTime, afterId, until, pageSize);
+            position = 0;
+            exhausted = page.size() < pageSize;
+            return !page.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.HistoryQuery;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+/**
+ * HistoryService reads the stored price history of a symbol as a stream of pages.
+ */
+public interface HistoryService {
+
+    /**
+     * Validate a history range and apply defaults.
+     * - If 'to' is null it defaults to now, if 'from' is null it defaults to one day before 'to'.
+     * - If 'currency' is null prices stay in USD.
+     *
+     * @param symbol   The asset symbol (any case).
+     * @param from     Optional inclusive start.
+     * @param to       Optional inclusive end.
+     * @param currency Optional currency to convert prices to.
+     * @return The normalized query.
+     * @throws IllegalArgumentException if the symbol is missing, 'from' is after 'to' or the currency is unknown.
+     */
+    HistoryQuery resolve(String symbol, LocalDateTime from, LocalDateTime to, String currency);
+
+    /**
+     * Write the price ticks of a query in time order, one page at a time.
+     *
+     * @param query  A query returned by {@link #resolve}.
+     * @param writer The destination; begun and ended by this method.
+     */
+    void writeHistory(HistoryQuery query, TickSeriesWriter writer) throws IOException;
+
+    /**
+     * Export the price ticks of a query as CSV (symbol,updated_at,price) from a database cursor,
+     * with prices in the query's currency.
+     * Rows are written as they are read, so memory use does not depend on the size of the range.
+     *
+     * @param query A query returned by {@link #resolve}.
+     * @param out   The destination; flushed but not closed.
+     */
+    void exportCsv(HistoryQuery query, OutputStream out) throws IOException;
+}
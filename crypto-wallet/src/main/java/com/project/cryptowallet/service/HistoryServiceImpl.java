@@ -0,0 +1,106 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.HistoryQuery;
+import com.project.cryptowallet.dto.PriceTick;
+import com.project.cryptowallet.repository.WalletAssetHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class HistoryServiceImpl implements HistoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoryServiceImpl.class);
+
+    // Rows between explicit flushes, so the client sees chunks while a long export runs
+    private static final int EXPORT_FLUSH_ROWS = 10_000;
+    private static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+
+    private final WalletAssetHistoryRepository walletAssetHistoryRepository;
+    private final FxRateService fxRateService;
+    private final int pageSize;
+
+    public HistoryServiceImpl(WalletAssetHistoryRepository walletAssetHistoryRepository,
+                              FxRateService fxRateService,
+                              @Value("${history.page-size:5000}") int pageSize) {
+        this.walletAssetHistoryRepository = walletAssetHistoryRepository;
+        this.fxRateService = fxRateService;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public HistoryQuery resolve(String symbol, LocalDateTime from, LocalDateTime to, String currency) {
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("symbol is required");
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        CurrencyConversion conversion = fxRateService.conversion(currency);
+        return new HistoryQuery(symbol.trim().toUpperCase(), start, end, conversion.getCurrency());
+    }
+
+    @Override
+    public void writeHistory(HistoryQuery query, TickSeriesWriter writer) throws IOException {
+        writer.begin(query.getSymbol(), fxRateService.conversion(query.getCurrency()));
+
+        // Keyset paging on (updatedAt, id): each page is an index range scan, whatever the offset
+        LocalDateTime after = query.getFrom();
+        long afterId = -1;
+        long total = 0;
+        List<PriceTick> page;
+        do {
+            page = walletAssetHistoryRepository.findTicksAfter(query.getSymbol(), after, afterId, query.getTo(), Limit.of(pageSize));
+            writer.writePage(page);
+            if (!page.isEmpty()) {
+                PriceTick last = page.get(page.size() - 1);
+                after = last.getUpdatedAt();
+                afterId = last.getId();
+                total += page.size();
+            }
+        } while (page.size() == pageSize);
+
+        writer.end();
+        logger.info("Streamed {} ticks of {} from {} to {}", total, query.getSymbol(), query.getFrom(), query.getTo());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportCsv(HistoryQuery query, OutputStream out) throws IOException {
+        CurrencyConversion conversion = fxRateService.conversion(query.getCurrency());
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_BYTES);
+        writer.write("symbol,updated_at,price\n");
+
+        long total = 0;
+        try (Stream<PriceTick> ticks = walletAssetHistoryRepository.streamTicks(query.getSymbol(), query.getFrom(), query.getTo())) {
+            Iterator<PriceTick> iterator = ticks.iterator();
+            while (iterator.hasNext()) {
+                PriceTick tick = iterator.next();
+                writer.write(query.getSymbol());
+                writer.write(',');
+                writer.write(tick.getUpdatedAt().toString());
+                writer.write(',');
+                writer.write(conversion.apply(tick.getPrice()).toPlainString());
+                writer.write('\n');
+                if (++total % EXPORT_FLUSH_ROWS == 0) {
+                    writer.flush();
+                }
+            }
+        }
+
+        writer.flush();
+        logger.info("Exported {} ticks of {} from {} to {} as CSV", total, query.getSymbol(), query.getFrom(), query.getTo());
+    }
+}
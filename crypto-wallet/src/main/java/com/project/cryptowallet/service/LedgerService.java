@@ -0,0 +1,45 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.HoldingsResponse;
+import com.project.cryptowallet.dto.TransactionRequest;
+import com.project.cryptowallet.model.HoldingsSnapshot;
+import com.project.cryptowallet.model.LedgerTransaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * LedgerService records buy, sell and transfer transactions in an append-only ledger
+ * and derives holdings and average cost basis from it.
+ */
+public interface LedgerService {
+
+    /**
+     * Append a batch of transactions. The batch is validated as a whole and either recorded entirely or not at all.
+     * - 'executedAt' defaults to now; transactions must be recorded in execution order and not in the future.
+     * - Sells and transfers out may not exceed the position at that point.
+     *
+     * @param requests The transactions, in execution order.
+     * @return The recorded ledger entries.
+     * @throws IllegalArgumentException if a transaction is invalid.
+     */
+    List<LedgerTransaction> recordTransactions(List<TransactionRequest> requests);
+
+    /**
+     * Get the positions derived from the ledger.
+     * - If 'asOf' is null, the current positions are returned from memory.
+     * - Otherwise they are rebuilt from the latest snapshot at or before 'asOf' plus the transactions after it.
+     *
+     * @param asOf Optional point in time.
+     * @return The positions, ordered by symbol.
+     */
+    HoldingsResponse getHoldings(LocalDateTime asOf);
+
+    /**
+     * Persist a snapshot of the current positions, so later rebuilds start from here.
+     *
+     * @return The new snapshot, or empty if no transaction was recorded since the last one.
+     */
+    Optional<HoldingsSnapshot> takeSnapshot();
+}
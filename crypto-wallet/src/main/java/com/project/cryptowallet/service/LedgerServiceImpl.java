@@ -0,0 +1,266 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.HoldingsResponse;
+import com.project.cryptowallet.dto.PositionResponse;
+import com.project.cryptowallet.dto.TransactionRequest;
+import com.project.cryptowallet.model.HoldingsSnapshot;
+import com.project.cryptowallet.model.LedgerTransaction;
+import com.project.cryptowallet.model.SnapshotPosition;
+import com.project.cryptowallet.model.TransactionType;
+import com.project.cryptowallet.repository.HoldingsSnapshotRepository;
+import com.project.cryptowallet.repository.LedgerTransactionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerServiceImpl.class);
+
+    private final LedgerTransactionRepository ledgerTransactionRepository;
+    private final HoldingsSnapshotRepository holdingsSnapshotRepository;
+    private final long snapshotEvery;
+    private final int pageSize;
+
+    private final ExecutorService snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ledger-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean snapshotPending = new AtomicBoolean(false);
+
+    // Serializes writers from validation through the insert, so each batch is checked against the previous one
+    private final Object writeLock = new Object();
+
+    // Current positions and the ledger head, guarded by ledgerLock; published positions are never mutated
+    private final Object ledgerLock = new Object();
+    private Positions current = new Positions();
+    private long lastTransactionId;
+    private LocalDateTime lastExecutedAt;
+    private long lastSnapshotTransactionId;
+    private long transactionsSinceSnapshot;
+
+    public LedgerServiceImpl(LedgerTransactionRepository ledgerTransactionRepository,
+                             HoldingsSnapshotRepository holdingsSnapshotRepository,
+                             @Value("${ledger.snapshot-every:10000}") long snapshotEvery,
+                             @Value("${ledger.page-size:5000}") int pageSize) {
+        if (snapshotEvery <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("ledger.snapshot-every and ledger.page-size must be positive");
+        }
+        this.ledgerTransactionRepository = ledgerTransactionRepository;
+        this.holdingsSnapshotRepository = holdingsSnapshotRepository;
+        this.snapshotEvery = snapshotEvery;
+        this.pageSize = pageSize;
+    }
+
+    @PostConstruct
+    public void loadPositions() {
+        Optional<HoldingsSnapshot> snapshot;
+        Rebuild rebuild;
+        synchronized (writeLock) {
+            snapshot = holdingsSnapshotRepository.findFirstByOrderByLastTransactionIdDesc();
+            rebuild = rebuild(snapshot, null);
+            synchronized (ledgerLock) {
+                current = rebuild.positions();
+                lastTransactionId = rebuild.lastTransactionId();
+                lastExecutedAt = rebuild.lastExecutedAt();
+                lastSnapshotTransactionId = snapshot.map(HoldingsSnapshot::getLastTransactionId).orElse(0L);
+                transactionsSinceSnapshot = rebuild.replayed();
+            }
+        }
+        logger.info("Ledger loaded: {} positions, {} transactions replayed after the latest snapshot.",
+                rebuild.positions().size(), rebuild.replayed());
+    }
+
+    @PreDestroy
+    public void stop() {
+        snapshotExecutor.shutdownNow();
+    }
+
+    @Override
+    public List<LedgerTransaction> recordTransactions(List<TransactionRequest> requests) {
+        boolean snapshotDue;
+        List<LedgerTransaction> saved;
+        // Readers only wait for ledgerLock, which is held to read the head and to swap in the new positions,
+        // never across validation or database I/O
+        synchronized (writeLock) {
+            Positions base;
+            LocalDateTime previous;
+            synchronized (ledgerLock) {
+                base = current;
+                previous = lastExecutedAt;
+            }
+            // Validate the whole batch against a copy, so a rejected batch leaves no trace
+            Positions working = base.copy();
+            LocalDateTime now = LocalDateTime.now();
+            List<LedgerTransaction> transactions = new ArrayList<>(requests.size());
+            for (TransactionRequest request : requests) {
+                LedgerTransaction transaction = toTransaction(request, previous, now);
+                working.apply(transaction.getType(), transaction.getSymbol(), transaction.getQuantity(), transaction.getPrice());
+                transactions.add(transaction);
+                previous = transaction.getExecutedAt();
+            }
+            if (transactions.isEmpty()) {
+                return List.of();
+            }
+
+            // saveAll commits the batch in one transaction, before the in-memory positions move on
+            saved = ledgerTransactionRepository.saveAll(transactions);
+            synchronized (ledgerLock) {
+                current = working;
+                lastTransactionId = saved.get(saved.size() - 1).getId();
+                lastExecutedAt = previous;
+                transactionsSinceSnapshot += saved.size();
+                snapshotDue = transactionsSinceSnapshot >= snapshotEvery;
+            }
+        }
+        logger.info("Recorded {} ledger transactions.", saved.size());
+
+        if (snapshotDue && snapshotPending.compareAndSet(false, true)) {
+            snapshotExecutor.execute(() -> {
+                try {
+                    takeSnapshot();
+                } catch (Exception e) {
+                    logger.error("Error taking holdings snapshot: {}", e.getMessage(), e);
+                } finally {
+                    snapshotPending.set(false);
+                }
+            });
+        }
+        return saved;
+    }
+
+    @Override
+    public HoldingsResponse getHoldings(LocalDateTime asOf) {
+        if (asOf == null) {
+            Positions positions;
+            synchronized (ledgerLock) {
+                positions = current;
+            }
+            return toResponse(LocalDateTime.now(), null, 0, positions);
+        }
+
+        Optional<HoldingsSnapshot> snapshot = holdingsSnapshotRepository.findFirstByAsOfLessThanEqualOrderByLastTransactionIdDesc(asOf);
+        Rebuild rebuild = rebuild(snapshot, asOf);
+        logger.info("Rebuilt holdings as of {} from {} plus {} transactions.", asOf,
+                snapshot.map(s -> "the snapshot at " + s.getAsOf()).orElse("an empty ledger"), rebuild.replayed());
+        return toResponse(asOf, snapshot.map(HoldingsSnapshot::getAsOf).orElse(null), rebuild.replayed(), rebuild.positions());
+    }
+
+    @Override
+    public Optional<HoldingsSnapshot> takeSnapshot() {
+        Positions positions;
+        long transactionId;
+        long covered;
+        LocalDateTime asOf;
+        synchronized (ledgerLock) {
+            if (lastTransactionId == lastSnapshotTransactionId) {
+                return Optional.empty();
+            }
+            positions = current;
+            transactionId = lastTransactionId;
+            covered = transactionsSinceSnapshot;
+            asOf = lastExecutedAt;
+        }
+
+        List<SnapshotPosition> rows = positions.all().stream()
+                .map(p -> new SnapshotPosition(p.getSymbol(), p.getQuantity(), p.getCostBasis(), p.getRealizedPnl()))
+                .toList();
+        HoldingsSnapshot snapshot = holdingsSnapshotRepository.save(new HoldingsSnapshot(transactionId, asOf, new ArrayList<>(rows)));
+        synchronized (ledgerLock) {
+            // Transactions recorded while the snapshot was written count towards the next one
+            if (transactionId > lastSnapshotTransactionId) {
+                lastSnapshotTransactionId = transactionId;
+                transactionsSinceSnapshot = Math.max(0, transactionsSinceSnapshot - covered);
+            }
+        }
+        logger.info("Holdings snapshot taken at transaction {} ({} positions).", transactionId, rows.size());
+        return Optional.of(snapshot);
+    }
+
+    /**
+     * Fold the transactions after a snapshot (or the whole ledger) into positions, one keyset page at a time.
+     *
+     * @param snapshot Optional starting point.
+     * @param until    Optional inclusive upper bound on the execution time.
+     */
+    private Rebuild rebuild(Optional<HoldingsSnapshot> snapshot, LocalDateTime until) {
+        Positions positions = new Positions();
+        long afterId = 0;
+        LocalDateTime executedAt = null;
+        if (snapshot.isPresent()) {
+            snapshot.get().getPositions().forEach(p ->
+                    positions.restore(p.getSymbol(), p.getQuantity(), p.getCostBasis(), p.getRealizedPnl()));
+            afterId = snapshot.get().getLastTransactionId();
+            executedAt = snapshot.get().getAsOf();
+        }
+
+        long replayed = 0;
+        List<LedgerTransaction> page;
+        do {
+            page = until == null
+                    ? ledgerTransactionRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(pageSize))
+                    : ledgerTransactionRepository.findByIdGreaterThanAndExecutedAtLessThanEqualOrderByIdAsc(afterId, until, Limit.of(pageSize));
+            for (LedgerTransaction transaction : page) {
+                positions.apply(transaction.getType(), transaction.getSymbol(), transaction.getQuantity(), transaction.getPrice());
+                afterId = transaction.getId();
+                executedAt = transaction.getExecutedAt();
+            }
+            replayed += page.size();
+        } while (page.size() == pageSize);
+
+        return new Rebuild(positions, afterId, executedAt, replayed);
+    }
+
+    private LedgerTransaction toTransaction(TransactionRequest request, LocalDateTime previous, LocalDateTime now) {
+        if (request.getSymbol() == null || request.getSymbol().isBlank() || request.getType() == null) {
+            throw new IllegalArgumentException("Transaction requires a symbol and a type");
+        }
+        if (request.getQuantity() == null || request.getQuantity().signum() <= 0) {
+            throw new IllegalArgumentException("Transaction requires a positive quantity");
+        }
+        boolean trade = request.getType() == TransactionType.BUY || request.getType() == TransactionType.SELL;
+        if (trade && (request.getPrice() == null || request.getPrice().signum() <= 0)) {
+            throw new IllegalArgumentException(request.getType() + " requires a positive price");
+        }
+        if (request.getPrice() != null && request.getPrice().signum() < 0) {
+            throw new IllegalArgumentException("Price must not be negative");
+        }
+
+        LocalDateTime executedAt = request.getExecutedAt() != null ? request.getExecutedAt() : now;
+        if (executedAt.isAfter(now)) {
+            throw new IllegalArgumentException("Transaction executed in the future: " + executedAt);
+        }
+        // Execution order is ledger order: snapshots and as-of rebuilds rely on it
+        if (previous != null && executedAt.isBefore(previous)) {
+            throw new IllegalArgumentException("Transaction at " + executedAt + " is older than the last recorded one at " + previous);
+        }
+        // Transfers out leave at average cost, so their price is not stored
+        BigDecimal price = request.getType() == TransactionType.TRANSFER_OUT ? null : request.getPrice();
+        return new LedgerTransaction(request.getSymbol().trim().toUpperCase(), request.getType(), request.getQuantity(), price, executedAt);
+    }
+
+    private static HoldingsResponse toResponse(LocalDateTime asOf, LocalDateTime snapshotAsOf, long replayed, Positions positions) {
+        List<PositionResponse> rows = positions.all().stream()
+                .map(p -> new PositionResponse(p.getSymbol(), p.getQuantity(), p.getCostBasis(), p.getAverageCost(), p.getRealizedPnl()))
+                .toList();
+        return new HoldingsResponse(asOf, snapshotAsOf, replayed, rows);
+    }
+
+    private record Rebuild(Positions positions, long lastTransactionId, LocalDateTime lastExecutedAt, long replayed) {
+    }
+}
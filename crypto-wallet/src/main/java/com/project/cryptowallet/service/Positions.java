@@ -0,0 +1,131 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Positions per symbol folded from ledger transactions, using the average cost method.
+ * Not thread-safe; callers either own an instance or guard it.
+ */
+public class Positions {
+
+    private final Map<String, Position> bySymbol;
+
+    public Positions() {
+        this.bySymbol = new HashMap<>();
+    }
+
+    private Positions(Map<String, Position> bySymbol) {
+        this.bySymbol = bySymbol;
+    }
+
+    /**
+     * Restore a position, e.g. from a snapshot.
+     */
+    public void restore(String symbol, BigDecimal quantity, BigDecimal costBasis, BigDecimal realizedPnl) {
+        bySymbol.put(symbol, new Position(symbol, quantity, costBasis, realizedPnl));
+    }
+
+    /**
+     * Apply one transaction.
+     *
+     * @param type     The transaction type.
+     * @param symbol   Upper-case symbol.
+     * @param quantity Positive quantity.
+     * @param price    USD price per unit; for transfers in the cost basis per unit, null meaning zero. Ignored for transfers out.
+     * @throws IllegalArgumentException if a sell or transfer out exceeds the position.
+     */
+    public void apply(TransactionType type, String symbol, BigDecimal quantity, BigDecimal price) {
+        BigDecimal unitPrice = price != null ? price : BigDecimal.ZERO;
+        if (!type.isOutflow()) {
+            Position position = bySymbol.computeIfAbsent(symbol,
+                    key -> new Position(key, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO));
+            position.quantity = position.quantity.add(quantity);
+            position.costBasis = position.costBasis.add(quantity.multiply(unitPrice));
+            return;
+        }
+
+        Position position = bySymbol.get(symbol);
+        BigDecimal held = position != null ? position.quantity : BigDecimal.ZERO;
+        int remaining = held.compareTo(quantity);
+        if (remaining < 0) {
+            throw new IllegalArgumentException(type + " of " + quantity.toPlainString() + " " + symbol
+                    + " exceeds the position of " + held.toPlainString());
+        }
+        // The outgoing quantity takes its share of the cost; a full exit takes all of it, without rounding
+        BigDecimal costShare = remaining == 0
+                ? position.costBasis
+                : position.costBasis.multiply(quantity).divide(position.quantity, MathContext.DECIMAL64);
+        if (type == TransactionType.SELL) {
+            position.realizedPnl = position.realizedPnl.add(quantity.multiply(unitPrice).subtract(costShare));
+        }
+        position.quantity = position.quantity.subtract(quantity);
+        position.costBasis = remaining == 0 ? BigDecimal.ZERO : position.costBasis.subtract(costShare);
+    }
+
+    /**
+     * @return The position in a symbol, or null if it never had a transaction.
+     */
+    public Position get(String symbol) {
+        return bySymbol.get(symbol);
+    }
+
+    /**
+     * @return Every position, including closed ones (they carry realized P&amp;L), ordered by symbol.
+     */
+    public List<Position> all() {
+        return bySymbol.values().stream()
+                .sorted(Comparator.comparing(Position::getSymbol))
+                .toList();
+    }
+
+    public int size() {
+        return bySymbol.size();
+    }
+
+    public Positions copy() {
+        Map<String, Position> copy = new HashMap<>(bySymbol.size() * 2);
+        bySymbol.forEach((symbol, position) -> copy.put(symbol,
+                new Position(symbol, position.quantity, position.costBasis, position.realizedPnl)));
+        return new Positions(copy);
+    }
+
+    /**
+     * Quantity, remaining cost basis and realized profit and loss of one symbol.
+     */
+    public static final class Position {
+
+        private final String symbol;
+        private BigDecimal quantity;
+        private BigDecimal costBasis;
+        private BigDecimal realizedPnl;
+
+        private Position(String symbol, BigDecimal quantity, BigDecimal costBasis, BigDecimal realizedPnl) {
+            this.symbol = symbol;
+            this.quantity = quantity;
+            this.costBasis = costBasis;
+            this.realizedPnl = realizedPnl;
+        }
+
+        public String getSymbol() { return symbol; }
+
+        public BigDecimal getQuantity() { return quantity; }
+
+        public BigDecimal getCostBasis() { return costBasis; }
+
+        public BigDecimal getRealizedPnl() { return realizedPnl; }
+
+        /**
+         * @return Cost basis per unit, or zero for a closed position.
+         */
+        public BigDecimal getAverageCost() {
+            return quantity.signum() == 0 ? BigDecimal.ZERO : costBasis.divide(quantity, MathContext.DECIMAL64);
+        }
+    }
+}
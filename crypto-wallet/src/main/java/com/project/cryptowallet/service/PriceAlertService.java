@@ -0,0 +1,48 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.AlertRequest;
+import com.project.cryptowallet.model.PriceAlert;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * PriceAlertService registers price alerts and evaluates them on every price update.
+ */
+public interface PriceAlertService {
+
+    /**
+     * Register alerts. PERCENT_MOVE alerts use the last observed price of their symbol as reference.
+     *
+     * @param requests List of alert definitions.
+     * @return The persisted alerts.
+     * @throws IllegalArgumentException if a request is incomplete, or a PERCENT_MOVE symbol has no price yet.
+     */
+    List<PriceAlert> createAlerts(List<AlertRequest> requests);
+
+    /**
+     * @param symbol Optional upper-case symbol filter.
+     * @return Alerts for the symbol, or all alerts if 'symbol' is null.
+     */
+    List<PriceAlert> getAlerts(String symbol);
+
+    /**
+     * Delete an alert.
+     *
+     * @param id The alert ID.
+     * @return true if the alert existed.
+     */
+    boolean deleteAlert(Long id);
+
+    /**
+     * Evaluate alerts for a new price. Only alerts whose level lies between the previous and the new
+     * price are visited; each fires exactly once and is delivered asynchronously, at least once.
+     * Crossed alerts are marked as fired before this method returns: call it before storing the new price,
+     * so a crash in between either detects the crossing again from the stored price or finds the alert fired.
+     *
+     * @param symbol Upper-case asset symbol.
+     * @param price  The new price.
+     * @throws RuntimeException if the alerts could not be marked; the price is then not taken into account.
+     */
+    void onPriceUpdate(String symbol, BigDecimal price);
+}
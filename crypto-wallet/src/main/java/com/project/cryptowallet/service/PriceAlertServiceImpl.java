@@ -0,0 +1,279 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.alert.AlertDispatcher;
+import com.project.cryptowallet.dto.AlertNotification;
+import com.project.cryptowallet.dto.AlertRequest;
+import com.project.cryptowallet.model.AlertStatus;
+import com.project.cryptowallet.model.AlertType;
+import com.project.cryptowallet.model.PriceAlert;
+import com.project.cryptowallet.repository.PriceAlertRepository;
+import com.project.cryptowallet.repository.WalletAssetRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class PriceAlertServiceImpl implements PriceAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceAlertServiceImpl.class);
+
+    private final PriceAlertRepository priceAlertRepository;
+    private final WalletAssetRepository walletAssetRepository;
+    private final AlertDispatcher alertDispatcher;
+    private final long redeliveryIntervalSeconds;
+    private final AlertIndex alertIndex = new AlertIndex();
+    // The indexed alerts by ID, so firing and delivery need no lookup
+    private final Map<Long, PriceAlert> activeAlerts = new ConcurrentHashMap<>();
+    private final Map<String, BigDecimal> lastPrices = new ConcurrentHashMap<>();
+    // Fired alerts whose first delivery is queued or running on the dispatcher; the sweep leaves them alone
+    private final Set<Long> firstDeliveries = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean sweeping = new AtomicBoolean(false);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "alert-redelivery");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PriceAlertServiceImpl(PriceAlertRepository priceAlertRepository,
+                                 WalletAssetRepository walletAssetRepository,
+                                 AlertDispatcher alertDispatcher,
+                                 @Value("${alerts.redelivery-interval:60}") long redeliveryIntervalSeconds) {
+        this.priceAlertRepository = priceAlertRepository;
+        this.walletAssetRepository = walletAssetRepository;
+        this.alertDispatcher = alertDispatcher;
+        this.redeliveryIntervalSeconds = redeliveryIntervalSeconds;
+    }
+
+    /**
+     * Index the active alerts, and seed the last prices from the stored ones so a crossing
+     * between the last price before a restart and the first one after it still fires.
+     */
+    @PostConstruct
+    public void loadActiveAlerts() {
+        priceAlertRepository.findByStatus(AlertStatus.ACTIVE).forEach(this::index);
+        walletAssetRepository.findLatestPrices().forEach(stored -> lastPrices.putIfAbsent(stored.getSymbol(), stored.getPrice()));
+        logger.info("Indexed {} active price alerts, seeded {} last prices.", alertIndex.size(), lastPrices.size());
+    }
+
+    /**
+     * Start the outbox sweep: alerts that fired but were never delivered (failed sinks, a full queue,
+     * a crash) are delivered again, right away for those left over from a previous run. The sweep runs
+     * on its own thread, so new firings never queue behind it on the dispatcher.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::redeliverPending, 0, redeliveryIntervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public List<PriceAlert> createAlerts(List<AlertRequest> requests) {
+        List<PriceAlert> alerts = new ArrayList<>(requests.size());
+        for (AlertRequest request : requests) {
+            alerts.add(toAlert(request));
+        }
+        List<PriceAlert> saved = priceAlertRepository.saveAll(alerts);
+        saved.forEach(this::index);
+        logger.info("Registered {} price alerts, {} active in total.", saved.size(), alertIndex.size());
+        return saved;
+    }
+
+    @Override
+    public List<PriceAlert> getAlerts(String symbol) {
+        return symbol == null ? priceAlertRepository.findAll() : priceAlertRepository.findBySymbol(symbol);
+    }
+
+    @Override
+    public boolean deleteAlert(Long id) {
+        return priceAlertRepository.findById(id)
+                .map(alert -> {
+                    alertIndex.remove(alert.getId(), alert.getSymbol());
+                    activeAlerts.remove(alert.getId());
+                    priceAlertRepository.delete(alert);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    @Override
+    public void onPriceUpdate(String symbol, BigDecimal price) {
+        BigDecimal previous = lastPrices.put(symbol, price);
+        if (previous == null) {
+            return;
+        }
+        List<Long> crossed = alertIndex.crossed(symbol, previous, price);
+        if (crossed.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime triggeredAt = LocalDateTime.now();
+        logger.info("{} moved {} -> {}, {} alerts crossed", symbol, previous, price, crossed.size());
+        // Claimed before firing, so a concurrent outbox sweep does not deliver them too
+        firstDeliveries.addAll(crossed);
+        List<PriceAlert> fired = new ArrayList<>(crossed.size());
+        for (int i = 0; i < crossed.size(); i++) {
+            Long id = crossed.get(i);
+            int updated;
+            try {
+                // The conditional update is the single point where an alert fires
+                updated = priceAlertRepository.markTriggered(id, price, triggeredAt);
+            } catch (RuntimeException e) {
+                // Put the unmarked alerts back and forget this price, so the next update detects the crossing again
+                crossed.subList(i, crossed.size()).forEach(this::reindex);
+                lastPrices.replace(symbol, price, previous);
+                crossed.forEach(firstDeliveries::remove);
+                throw e;
+            }
+            PriceAlert alert = activeAlerts.remove(id);
+            if (updated == 1 && alert != null) {
+                fired.add(alert);
+            } else {
+                firstDeliveries.remove(id);
+            }
+        }
+        if (fired.isEmpty()) {
+            return;
+        }
+
+        // Only delivery is asynchronous; an alert whose delivery is never queued is picked up by the outbox sweep
+        boolean queued = alertDispatcher.submit(() -> {
+            for (PriceAlert alert : fired) {
+                try {
+                    deliver(alert, price, triggeredAt, AlertDispatcher.MAX_ATTEMPTS, Set.of());
+                } finally {
+                    firstDeliveries.remove(alert.getId());
+                }
+            }
+        });
+        if (!queued) {
+            fired.forEach(alert -> firstDeliveries.remove(alert.getId()));
+        }
+    }
+
+    /**
+     * Deliver every alert that fired but was not delivered yet, skipping those whose first delivery is still
+     * pending on the dispatcher. Each sink only gets the alerts it has not accepted, with one attempt per sweep:
+     * the sweep interval is the back-off. A sink that fails is left out for the rest of the sweep.
+     * Skipped if a previous sweep is still running.
+     */
+    void redeliverPending() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<PriceAlert> pending = priceAlertRepository.findByStatus(AlertStatus.TRIGGERED).stream()
+                    .filter(alert -> !firstDeliveries.contains(alert.getId()))
+                    .toList();
+            if (pending.isEmpty()) {
+                return;
+            }
+            logger.info("Redelivering {} triggered price alerts.", pending.size());
+            Set<String> down = new HashSet<>();
+            for (PriceAlert alert : pending) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                Set<String> failed = deliver(alert, alert.getTriggeredPrice(), alert.getTriggeredAt(), 1, down);
+                down.addAll(failed);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Deliver a fired alert to the sinks that do not have it yet, and clear it from the outbox once every
+     * sink has accepted it. Partial progress is stored, so a redelivery never sends it to a sink twice.
+     * A crash before the progress is stored delivers it again on restart: sinks see each alert at least once.
+     *
+     * @param down Sinks to leave out this time.
+     * @return The sinks that were tried and still do not have the alert.
+     */
+    private Set<String> deliver(PriceAlert alert, BigDecimal price, LocalDateTime triggeredAt, int maxAttempts, Set<String> down) {
+        Set<String> delivered = deliveredSinks(alert);
+        Set<String> skip = new HashSet<>(delivered);
+        skip.addAll(down);
+        Set<String> accepted = alertDispatcher.deliver(new AlertNotification(alert.getId(), alert.getSymbol(), alert.getType(),
+                alert.getUpperLevel(), alert.getLowerLevel(), price, triggeredAt), skip, maxAttempts);
+        delivered.addAll(accepted);
+
+        Set<String> failed = new HashSet<>(alertDispatcher.getSinkNames());
+        failed.removeAll(skip);
+        failed.removeAll(accepted);
+        if (delivered.containsAll(alertDispatcher.getSinkNames())) {
+            priceAlertRepository.markDelivered(alert.getId());
+        } else {
+            if (!accepted.isEmpty()) {
+                priceAlertRepository.recordDeliveredSinks(alert.getId(), String.join(",", delivered));
+            }
+            logger.warn("Alert {} stays in the outbox until the next redelivery (delivered to {}).", alert.getId(), delivered);
+        }
+        return failed;
+    }
+
+    private static Set<String> deliveredSinks(PriceAlert alert) {
+        Set<String> names = new TreeSet<>();
+        if (alert.getDeliveredSinks() != null && !alert.getDeliveredSinks().isBlank()) {
+            names.addAll(Arrays.asList(alert.getDeliveredSinks().split(",")));
+        }
+        return names;
+    }
+
+    private PriceAlert toAlert(AlertRequest request) {
+        if (request.getSymbol() == null || request.getType() == null) {
+            throw new IllegalArgumentException("Alert requires a symbol and a type");
+        }
+        String symbol = request.getSymbol().toUpperCase();
+
+        if (request.getType() == AlertType.PERCENT_MOVE) {
+            if (request.getPercent() == null || request.getPercent().signum() <= 0) {
+                throw new IllegalArgumentException("PERCENT_MOVE alert requires a positive percent");
+            }
+            BigDecimal reference = lastPrices.get(symbol);
+            if (reference == null) {
+                throw new IllegalArgumentException("No price observed yet for " + symbol);
+            }
+            return new PriceAlert(symbol, AlertType.PERCENT_MOVE, null, request.getPercent(), reference);
+        }
+        if (request.getTriggerPrice() == null || request.getTriggerPrice().signum() <= 0) {
+            throw new IllegalArgumentException(request.getType() + " alert requires a positive triggerPrice");
+        }
+        return new PriceAlert(symbol, request.getType(), request.getTriggerPrice(), null, lastPrices.get(symbol));
+    }
+
+    private void reindex(Long id) {
+        PriceAlert alert = activeAlerts.get(id);
+        if (alert != null) {
+            index(alert);
+        }
+    }
+
+    private void index(PriceAlert alert) {
+        activeAlerts.put(alert.getId(), alert);
+        alertIndex.add(alert.getId(), alert.getSymbol(), alert.getUpperLevel(), alert.getLowerLevel());
+    }
+}
@@ -0,0 +1,74 @@
+package com.project.cryptowallet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cryptowallet.dto.PriceSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * PriceSnapshotStore reads and writes the local warm-start file.
+ * Writes go to a temporary file first and are moved into place, so a crash never leaves a torn snapshot.
+ * An empty file path disables the store.
+ */
+@Component
+public class PriceSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceSnapshotStore.class);
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public PriceSnapshotStore(ObjectMapper objectMapper,
+                              @Value("${price.snapshot.file:}") String file) {
+        this.objectMapper = objectMapper;
+        this.file = file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Load the last saved snapshot.
+     *
+     * @return The snapshot, or empty if the store is disabled, the file is missing or unreadable.
+     */
+    public Optional<PriceSnapshot> load() {
+        if (file == null || !Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            PriceSnapshot snapshot = objectMapper.readValue(file.toFile(), PriceSnapshot.class);
+            logger.info("Loaded price snapshot from {} saved at {}", file, snapshot.getSavedAt());
+            return Optional.of(snapshot);
+        } catch (IOException e) {
+            logger.warn("Ignoring unreadable price snapshot {}: {}", file, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Persist a snapshot, replacing the previous one.
+     *
+     * @param snapshot The snapshot to write.
+     */
+    public void save(PriceSnapshot snapshot) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            objectMapper.writeValue(tmp.toFile(), snapshot);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved price snapshot to {}", file);
+        } catch (IOException e) {
+            logger.warn("Failed to save price snapshot {}: {}", file, e.getMessage());
+        }
+    }
+}
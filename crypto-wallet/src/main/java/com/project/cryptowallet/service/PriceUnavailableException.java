@@ -0,0 +1,11 @@
+package com.project.cryptowallet.service;
+
+/**
+ * Thrown when no price provider could return a price, e.g. all of them failed or timed out.
+ */
+public class PriceUnavailableException extends RuntimeException {
+
+    public PriceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,22 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.ReplayRequest;
+import com.project.cryptowallet.dto.ReplayResponse;
+
+/**
+ * ReplayService answers "what would this wallet have been worth" from the stored price history.
+ */
+public interface ReplayService {
+
+    /**
+     * Replay a set of holdings over a past time range.
+     * - If 'holdings' is empty, the current wallet holdings are used.
+     * - If 'to' is null it defaults to now, if 'from' is null it defaults to three months before 'to'.
+     * - If 'stepSeconds' is null it defaults to one hour.
+     *
+     * @param request The holdings, time range and step.
+     * @return The wallet value at each step.
+     * @throws IllegalArgumentException if the range is invalid or would produce too many points.
+     */
+    ReplayResponse replay(ReplayRequest request);
+}
@@ -0,0 +1,128 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.PriceTick;
+import com.project.cryptowallet.dto.ReplayRequest;
+import com.project.cryptowallet.dto.ReplayResponse;
+import com.project.cryptowallet.dto.SymbolTotal;
+import com.project.cryptowallet.repository.WalletAssetHistoryRepository;
+import com.project.cryptowallet.repository.WalletAssetRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Service
+public class ReplayServiceImpl implements ReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplayServiceImpl.class);
+
+    private static final long DEFAULT_STEP_SECONDS = 3600;
+    private static final long DEFAULT_RANGE_MONTHS = 3;
+    private static final int MAX_POINTS = 100_000;
+    private static final int PAGE_SIZE = 1000;
+    private static final int MAX_SYMBOLS_PER_TASK = 8;
+    private static final int MAX_STEPS_PER_TASK = 1024;
+
+    private final WalletAssetRepository walletAssetRepository;
+    private final ForkJoinPool pool;
+    private final HistoryReplayEngine engine;
+
+    public ReplayServiceImpl(WalletAssetRepository walletAssetRepository,
+                             WalletAssetHistoryRepository walletAssetHistoryRepository,
+                             @Value("${replay.parallelism:4}") int parallelism) {
+        this.walletAssetRepository = walletAssetRepository;
+        // Kept at or below the connection pool size, each leaf task holds one connection per page query
+        this.pool = new ForkJoinPool(parallelism);
+        this.engine = new HistoryReplayEngine(new HistoryReplayEngine.TickSource() {
+            @Override
+            public List<PriceTick> nextPage(String symbol, LocalDateTime after, long afterId, LocalDateTime until, int limit) {
+                return walletAssetHistoryRepository.findTicksAfter(symbol, after, afterId, until, Limit.of(limit));
+            }
+
+            @Override
+            public BigDecimal priceAtOrBefore(String symbol, LocalDateTime at) {
+                return walletAssetHistoryRepository
+                        .findFirstBySymbolAndUpdatedAtLessThanEqualOrderByUpdatedAtDescIdDesc(symbol, at)
+                        .map(PriceTick::getPrice)
+                        .orElse(null);
+            }
+        }, pool, PAGE_SIZE, MAX_SYMBOLS_PER_TASK, MAX_STEPS_PER_TASK);
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public ReplayResponse replay(ReplayRequest request) {
+        LocalDateTime to = request.getTo() != null ? request.getTo() : LocalDateTime.now();
+        LocalDateTime from = request.getFrom() != null ? request.getFrom() : to.minusMonths(DEFAULT_RANGE_MONTHS);
+        long stepSeconds = request.getStepSeconds() != null ? request.getStepSeconds() : DEFAULT_STEP_SECONDS;
+
+        if (stepSeconds <= 0) {
+            throw new IllegalArgumentException("stepSeconds must be positive");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        long points = Duration.between(from, to).getSeconds() / stepSeconds + 1;
+        if (points > MAX_POINTS) {
+            throw new IllegalArgumentException("Replay would produce " + points + " points, the maximum is " + MAX_POINTS);
+        }
+
+        Map<String, BigDecimal> holdings = normalizeHoldings(request.getHoldings());
+        logger.info("Replaying {} symbols from {} to {} in {} points", holdings.size(), from, to, points);
+
+        long started = System.nanoTime();
+        double[] values = engine.replay(holdings, from, stepSeconds, (int) points);
+        logger.info("Replay completed in {} ms", Duration.ofNanos(System.nanoTime() - started).toMillis());
+
+        List<ReplayResponse.Point> series = new ArrayList<>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            series.add(new ReplayResponse.Point(from.plusSeconds(i * stepSeconds),
+                    BigDecimal.valueOf(values[i]).setScale(2, RoundingMode.HALF_UP)));
+        }
+        return new ReplayResponse(holdings, from, stepSeconds, series);
+    }
+
+    /**
+     * Upper-case and merge the requested holdings, or take the wallet's own when none are given.
+     *
+     * @throws IllegalArgumentException if a requested symbol is blank or its quantity is missing or negative.
+     */
+    private Map<String, BigDecimal> normalizeHoldings(Map<String, BigDecimal> requested) {
+        Map<String, BigDecimal> holdings = new HashMap<>();
+        if (requested != null && !requested.isEmpty()) {
+            requested.forEach((symbol, quantity) -> {
+                if (symbol == null || symbol.isBlank()) {
+                    throw new IllegalArgumentException("Holdings require a symbol");
+                }
+                if (quantity == null || quantity.signum() < 0) {
+                    throw new IllegalArgumentException("Quantity for " + symbol + " must be zero or positive");
+                }
+                holdings.merge(symbol.trim().toUpperCase(), quantity, BigDecimal::add);
+            });
+        } else {
+            for (SymbolTotal total : walletAssetRepository.sumBySymbol()) {
+                // Rows without a quantity hold nothing
+                if (total.getQuantity() != null) {
+                    holdings.put(total.getSymbol(), total.getQuantity());
+                }
+            }
+        }
+        return holdings;
+    }
+}
@@ -0,0 +1,45 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.AnalyticsResponse;
+import com.project.cryptowallet.dto.SeriesMetrics;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * RiskAnalyticsService maintains rolling risk metrics per symbol and for the whole wallet.
+ * Metrics are updated incrementally from each observed price, never recomputed from stored history.
+ */
+public interface RiskAnalyticsService {
+
+    /**
+     * Record a freshly fetched price. O(1) per call, except once per minute when the
+     * cross-asset covariance matrix is updated.
+     *
+     * @param symbol     Upper-case asset symbol.
+     * @param price      The latest price.
+     * @param timeMillis Observation time in epoch milliseconds.
+     */
+    void recordPrice(String symbol, BigDecimal price, long timeMillis);
+
+    /**
+     * Set the total quantity held for a symbol. Quantity changes move the wallet value
+     * but not the wallet performance index, so deposits do not count as returns.
+     *
+     * @param symbol   Upper-case asset symbol.
+     * @param quantity Total quantity held.
+     */
+    void updateQuantity(String symbol, BigDecimal quantity);
+
+    /**
+     * @return Metrics for the wallet and every symbol, and pairwise correlations of one-minute returns
+     * among the largest holdings by value.
+     */
+    AnalyticsResponse getAnalytics();
+
+    /**
+     * @param symbol Upper-case asset symbol.
+     * @return Metrics for a single symbol, if it has been observed.
+     */
+    Optional<SeriesMetrics> getSymbolMetrics(String symbol);
+}
@@ -0,0 +1,194 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.AnalyticsResponse;
+import com.project.cryptowallet.dto.SeriesMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.stream.IntStream;
+
+@Service
+public class RiskAnalyticsServiceImpl implements RiskAnalyticsService {
+
+    private static final long MINUTE = 60_000L;
+    // Decay of the exponentially weighted covariance of one-minute returns
+    private static final double COVARIANCE_DECAY = 0.97;
+
+    private final int volatilityWindow;
+    private final int correlationSymbols;
+
+    // Per-symbol state, indexed by the position in 'symbols'
+    private final Map<String, Integer> symbolIndex = new HashMap<>();
+    private final List<String> symbols = new ArrayList<>();
+    private final List<RollingSeriesStats> symbolStats = new ArrayList<>();
+    private double[] lastPrices = new double[0];
+    private double[] minuteClosePrices = new double[0];
+    private double[] quantities = new double[0];
+    private double[][] covariance = new double[0][0];
+    private long currentMinute = -1;
+
+    // The wallet index starts at 1.0 and moves only with market returns
+    private final RollingSeriesStats walletStats;
+    private double walletValue;
+    private double walletIndex = 1.0;
+
+    public RiskAnalyticsServiceImpl(@Value("${analytics.volatility-window:100}") int volatilityWindow,
+                                    @Value("${analytics.correlation-symbols:20}") int correlationSymbols) {
+        if (correlationSymbols < 0) {
+            throw new IllegalArgumentException("analytics.correlation-symbols must not be negative");
+        }
+        this.volatilityWindow = volatilityWindow;
+        this.correlationSymbols = correlationSymbols;
+        this.walletStats = new RollingSeriesStats(volatilityWindow);
+    }
+
+    @Override
+    public synchronized void recordPrice(String symbol, BigDecimal price, long timeMillis) {
+        double current = price.doubleValue();
+        if (current <= 0) {
+            return;
+        }
+        int i = indexOf(symbol);
+
+        long minute = timeMillis / MINUTE;
+        if (currentMinute >= 0 && minute > currentMinute) {
+            rollMinute();
+        }
+        currentMinute = Math.max(currentMinute, minute);
+
+        double previous = lastPrices[i];
+        lastPrices[i] = current;
+        if (minuteClosePrices[i] == 0) {
+            minuteClosePrices[i] = current;
+        }
+        symbolStats.get(i).record(timeMillis, current);
+
+        if (previous > 0) {
+            double delta = quantities[i] * (current - previous);
+            if (walletValue > 0) {
+                walletIndex *= 1 + delta / walletValue;
+            }
+            walletValue += delta;
+        } else {
+            walletValue += quantities[i] * current;
+        }
+        if (walletValue > 0) {
+            walletStats.record(timeMillis, walletIndex);
+        }
+    }
+
+    @Override
+    public synchronized void updateQuantity(String symbol, BigDecimal quantity) {
+        int i = indexOf(symbol);
+        double updated = quantity.doubleValue();
+        walletValue += (updated - quantities[i]) * lastPrices[i];
+        quantities[i] = updated;
+    }
+
+    @Override
+    public synchronized AnalyticsResponse getAnalytics() {
+        Map<String, SeriesMetrics> metrics = new TreeMap<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            metrics.put(symbols.get(i), symbolStats.get(i).toMetrics());
+        }
+
+        // The matrix is quadratic, so it only covers the largest holdings; each pair is computed once
+        int[] selected = largestHoldings(correlationSymbols);
+        Map<String, Map<String, Double>> correlations = new TreeMap<>();
+        for (int i : selected) {
+            correlations.put(symbols.get(i), new TreeMap<>());
+        }
+        for (int a = 0; a < selected.length; a++) {
+            for (int b = a; b < selected.length; b++) {
+                Double correlation = correlation(selected[a], selected[b]);
+                if (correlation != null) {
+                    correlations.get(symbols.get(selected[a])).put(symbols.get(selected[b]), correlation);
+                    correlations.get(symbols.get(selected[b])).put(symbols.get(selected[a]), correlation);
+                }
+            }
+        }
+        return new AnalyticsResponse(BigDecimal.valueOf(walletValue).setScale(2, RoundingMode.HALF_UP),
+                walletStats.toMetrics(), metrics, correlations);
+    }
+
+    @Override
+    public synchronized Optional<SeriesMetrics> getSymbolMetrics(String symbol) {
+        Integer i = symbolIndex.get(symbol);
+        return i == null ? Optional.empty() : Optional.of(symbolStats.get(i).toMetrics());
+    }
+
+    /**
+     * Close the current minute: fold every symbol's one-minute log return into the covariance matrix.
+     * Symbols without a price on both sides of the minute are skipped.
+     */
+    private void rollMinute() {
+        int n = symbols.size();
+        double[] returns = new double[n];
+        boolean[] valid = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            valid[i] = minuteClosePrices[i] > 0 && lastPrices[i] > 0;
+            returns[i] = valid[i] ? Math.log(lastPrices[i] / minuteClosePrices[i]) : 0;
+            minuteClosePrices[i] = lastPrices[i];
+        }
+        for (int i = 0; i < n; i++) {
+            if (!valid[i]) {
+                continue;
+            }
+            for (int j = i; j < n; j++) {
+                if (valid[j]) {
+                    covariance[i][j] = COVARIANCE_DECAY * covariance[i][j] + (1 - COVARIANCE_DECAY) * returns[i] * returns[j];
+                    covariance[j][i] = covariance[i][j];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Indexes of up to 'limit' symbols with the highest held value, all symbols if there are fewer.
+     */
+    private int[] largestHoldings(int limit) {
+        int n = symbols.size();
+        if (n <= limit) {
+            int[] all = new int[n];
+            Arrays.setAll(all, i -> i);
+            return all;
+        }
+        return IntStream.range(0, n).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> quantities[i] * lastPrices[i]).reversed())
+                .limit(limit)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private Double correlation(int i, int j) {
+        double denominator = Math.sqrt(covariance[i][i] * covariance[j][j]);
+        if (denominator == 0) {
+            return null;
+        }
+        return Math.max(-1, Math.min(1, covariance[i][j] / denominator));
+    }
+
+    private int indexOf(String symbol) {
+        Integer existing = symbolIndex.get(symbol);
+        if (existing != null) {
+            return existing;
+        }
+        int i = symbols.size();
+        symbols.add(symbol);
+        symbolIndex.put(symbol, i);
+        symbolStats.add(new RollingSeriesStats(volatilityWindow));
+
+        lastPrices = Arrays.copyOf(lastPrices, i + 1);
+        minuteClosePrices = Arrays.copyOf(minuteClosePrices, i + 1);
+        quantities = Arrays.copyOf(quantities, i + 1);
+        double[][] grown = new double[i + 1][i + 1];
+        for (int r = 0; r < i; r++) {
+            System.arraycopy(covariance[r], 0, grown[r], 0, i);
+        }
+        covariance = grown;
+        return i;
+    }
+}
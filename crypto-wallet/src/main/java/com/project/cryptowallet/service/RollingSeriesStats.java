@@ -0,0 +1,281 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.SeriesMetrics;
+
+/**
+ * RollingSeriesStats maintains risk metrics for one series with O(1) work per observation and per read.
+ * <ul>
+ *     <li>Volatility: Welford mean/variance of tick-to-tick log returns over the last N ticks, with removal.</li>
+ *     <li>Max drawdown: running peak since the first observation.</li>
+ *     <li>24h high/low: monotonic deques of each one-minute sample's intra-minute high and low.</li>
+ *     <li>1h/24h/7d returns: one anchor per window that only moves forward through a ring of one-minute closes.</li>
+ * </ul>
+ * All state lives in primitive arrays. The ring and deques start small and double as history accumulates,
+ * so rarely refreshed series never pay for a full week of samples. Not thread-safe; callers synchronize.
+ */
+public class RollingSeriesStats {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final long WEEK = 7 * DAY;
+    private static final long[] RETURN_WINDOWS = {HOUR, DAY, WEEK};
+    // One sample per minute for the longest window, plus the anchor sample just before it
+    private static final int SAMPLE_CAPACITY = (int) (WEEK / MINUTE) + 2;
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Ring of one-minute closes addressed by absolute sequence number (seq % length), grown up to SAMPLE_CAPACITY
+    private long[] sampleTimes = new long[INITIAL_CAPACITY];
+    private double[] sampleLevels = new double[INITIAL_CAPACITY];
+    private long firstSeq;
+    private long nextSeq;
+
+    private final long[] returnAnchors = new long[RETURN_WINDOWS.length];
+    // Decreasing highs and increasing lows of the samples in the last 24h
+    private final SampleDeque maxDeque = new SampleDeque();
+    private final SampleDeque minDeque = new SampleDeque();
+
+    // Rolling Welford state over the last returnWindow.length log returns
+    private final double[] returnWindow;
+    private int returnPosition;
+    private int returnCount;
+    private double mean;
+    private double m2;
+
+    private double lastLevel = Double.NaN;
+    private long lastTime;
+    private double peak;
+    private double maxDrawdown;
+
+    public RollingSeriesStats(int volatilityWindow) {
+        this.returnWindow = new double[volatilityWindow];
+    }
+
+    /**
+     * Record a new level (price or index) observed at the given time. Times must not go backwards.
+     *
+     * @param timeMillis Observation time in epoch milliseconds.
+     * @param level      Observed level, must be positive.
+     */
+    public void record(long timeMillis, double level) {
+        if (lastLevel > 0) {
+            pushReturn(Math.log(level / lastLevel));
+        }
+        lastLevel = level;
+        lastTime = timeMillis;
+
+        peak = Math.max(peak, level);
+        maxDrawdown = Math.max(maxDrawdown, 1 - level / peak);
+
+        long seq = appendSample(timeMillis, level);
+        double high = level;
+        double low = level;
+        // A sample updated within its minute is always at the back of both deques; fold its extremes in
+        if (!maxDeque.isEmpty() && maxDeque.peekLastSeq() == seq) {
+            high = Math.max(high, maxDeque.pollLast());
+        }
+        if (!minDeque.isEmpty() && minDeque.peekLastSeq() == seq) {
+            low = Math.min(low, minDeque.pollLast());
+        }
+        while (!maxDeque.isEmpty() && maxDeque.peekLastValue() <= high) {
+            maxDeque.pollLast();
+        }
+        maxDeque.addLast(seq, high);
+        while (!minDeque.isEmpty() && minDeque.peekLastValue() >= low) {
+            minDeque.pollLast();
+        }
+        minDeque.addLast(seq, low);
+        while (timeAt(maxDeque.peekFirstSeq()) < timeMillis - DAY) {
+            maxDeque.pollFirst();
+        }
+        while (timeAt(minDeque.peekFirstSeq()) < timeMillis - DAY) {
+            minDeque.pollFirst();
+        }
+
+        for (int w = 0; w < RETURN_WINDOWS.length; w++) {
+            long anchor = Math.max(returnAnchors[w], firstSeq);
+            while (anchor + 1 < nextSeq && timeAt(anchor + 1) <= timeMillis - RETURN_WINDOWS[w]) {
+                anchor++;
+            }
+            returnAnchors[w] = anchor;
+        }
+    }
+
+    public boolean isEmpty() {
+        return nextSeq == 0;
+    }
+
+    public double getLevel() {
+        return lastLevel;
+    }
+
+    /**
+     * Standard deviation of tick-to-tick log returns over the rolling window, or null with fewer than two returns.
+     */
+    public Double getVolatility() {
+        return returnCount > 1 ? Math.sqrt(Math.max(0, m2 / (returnCount - 1))) : null;
+    }
+
+    /**
+     * Simple return over the window at the given index of {@link #RETURN_WINDOWS}, or null if history is too short.
+     */
+    private Double getReturn(int window) {
+        if (isEmpty()) {
+            return null;
+        }
+        long anchor = returnAnchors[window];
+        if (timeAt(anchor) > lastTime - RETURN_WINDOWS[window]) {
+            return null;
+        }
+        return lastLevel / levelAt(anchor) - 1;
+    }
+
+    public SeriesMetrics toMetrics() {
+        if (isEmpty()) {
+            return new SeriesMetrics();
+        }
+        return new SeriesMetrics(lastLevel, getVolatility(), maxDrawdown,
+                maxDeque.peekFirstValue(), minDeque.peekFirstValue(),
+                getReturn(0), getReturn(1), getReturn(2));
+    }
+
+    /**
+     * Store the level as the close of the current minute's sample, or start a new sample.
+     * A full ring doubles until it spans the longest window, then evicts its oldest sample.
+     *
+     * @return The sequence number of the sample holding this level.
+     */
+    private long appendSample(long timeMillis, double level) {
+        if (nextSeq > firstSeq && timeAt(nextSeq - 1) / MINUTE == timeMillis / MINUTE) {
+            long seq = nextSeq - 1;
+            sampleTimes[slot(seq)] = timeMillis;
+            sampleLevels[slot(seq)] = level;
+            return seq;
+        }
+        if (nextSeq - firstSeq == sampleTimes.length) {
+            if (sampleTimes.length < SAMPLE_CAPACITY) {
+                growSamples();
+            } else {
+                // Deque entries are at most a day old, so the week-old sample is never still referenced
+                firstSeq++;
+            }
+        }
+        long seq = nextSeq++;
+        sampleTimes[slot(seq)] = timeMillis;
+        sampleLevels[slot(seq)] = level;
+        return seq;
+    }
+
+    private void growSamples() {
+        int capacity = Math.min(SAMPLE_CAPACITY, sampleTimes.length * 2);
+        long[] times = new long[capacity];
+        double[] levels = new double[capacity];
+        for (long seq = firstSeq; seq < nextSeq; seq++) {
+            times[(int) (seq % capacity)] = timeAt(seq);
+            levels[(int) (seq % capacity)] = levelAt(seq);
+        }
+        sampleTimes = times;
+        sampleLevels = levels;
+    }
+
+    private void pushReturn(double value) {
+        if (returnCount == returnWindow.length) {
+            removeReturn(returnWindow[returnPosition]);
+        }
+        returnWindow[returnPosition] = value;
+        returnPosition = (returnPosition + 1) % returnWindow.length;
+
+        returnCount++;
+        double delta = value - mean;
+        mean += delta / returnCount;
+        m2 += delta * (value - mean);
+    }
+
+    private void removeReturn(double value) {
+        if (returnCount == 1) {
+            returnCount = 0;
+            mean = 0;
+            m2 = 0;
+            return;
+        }
+        double oldMean = mean;
+        mean = (returnCount * mean - value) / (returnCount - 1);
+        m2 -= (value - oldMean) * (value - mean);
+        returnCount--;
+    }
+
+    private int slot(long seq) {
+        return (int) (seq % sampleTimes.length);
+    }
+
+    private long timeAt(long seq) {
+        return sampleTimes[slot(seq)];
+    }
+
+    private double levelAt(long seq) {
+        return sampleLevels[slot(seq)];
+    }
+
+    /**
+     * Growable deque of (sample sequence, value) pairs in primitive arrays, so the windowed max/min never box.
+     */
+    private static final class SampleDeque {
+
+        private long[] seqs = new long[INITIAL_CAPACITY];
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int head;
+        private int size;
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private long peekFirstSeq() {
+            return seqs[head];
+        }
+
+        private double peekFirstValue() {
+            return values[head];
+        }
+
+        private long peekLastSeq() {
+            return seqs[(head + size - 1) % seqs.length];
+        }
+
+        private double peekLastValue() {
+            return values[(head + size - 1) % seqs.length];
+        }
+
+        private void addLast(long seq, double value) {
+            if (size == seqs.length) {
+                grow();
+            }
+            int index = (head + size) % seqs.length;
+            seqs[index] = seq;
+            values[index] = value;
+            size++;
+        }
+
+        private void pollFirst() {
+            head = (head + 1) % seqs.length;
+            size--;
+        }
+
+        private double pollLast() {
+            size--;
+            return values[(head + size) % seqs.length];
+        }
+
+        private void grow() {
+            long[] grownSeqs = new long[seqs.length * 2];
+            double[] grownValues = new double[seqs.length * 2];
+            for (int i = 0; i < size; i++) {
+                grownSeqs[i] = seqs[(head + i) % seqs.length];
+                grownValues[i] = values[(head + i) % seqs.length];
+            }
+            seqs = grownSeqs;
+            values = grownValues;
+            head = 0;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.RefreshBudget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded per-symbol price cache with a TTL, refresh-ahead and request collapsing.
+ * <ul>
+ *     <li>A price younger than the TTL is served from memory.</li>
+ *     <li>A price between the TTL and TTL + stale window is still served, and one background
+ *     refresh is started, so symbols that are read continuously never wait for the provider.</li>
+ *     <li>Anything older, or missing, is loaded by the calling thread; concurrent readers of the
+ *     same symbol wait for that one load instead of starting their own.</li>
+ * </ul>
+ * A symbol is loaded at most once per TTL. A failed load is remembered for a short backoff, during which
+ * reads of that symbol fail with the same error instead of calling the provider again. Background refreshes
+ * are optional work and only start while the provider call budget has room.
+ */
+public class SpotPriceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotPriceCache.class);
+
+    private final Function<String, BigDecimal> loader;
+    private final long ttlMillis;
+    private final long staleMillis;
+    private final long failureBackoffMillis;
+    private final int maxEntries;
+    private final Executor refreshExecutor;
+    private final RefreshBudget budget;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Failure> failures = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+
+    /**
+     * @param loader          Fetches the USD price of an upper-case symbol from the provider.
+     * @param ttlMillis       How long a price is served without refreshing it.
+     * @param staleMillis          How long after the TTL a price is still served while it is refreshed.
+     * @param failureBackoffMillis How long a failed load is rethrown before the symbol is loaded again; 0 disables it.
+     * @param maxEntries           Maximum number of cached symbols, and of remembered failures.
+     *                             The least recently read symbol is evicted.
+     * @param refreshExecutor      Runs the background refreshes.
+     * @param budget               Provider call budget; background refreshes are skipped while it is exhausted.
+     * @param clock                Current time in milliseconds.
+     */
+    public SpotPriceCache(Function<String, BigDecimal> loader, long ttlMillis, long staleMillis, long failureBackoffMillis,
+                          int maxEntries, Executor refreshExecutor, RefreshBudget budget, LongSupplier clock) {
+        if (ttlMillis <= 0 || staleMillis < 0 || failureBackoffMillis < 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException(
+                    "ttlMillis and maxEntries must be positive, staleMillis and failureBackoffMillis must not be negative");
+        }
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+        this.staleMillis = staleMillis;
+        this.failureBackoffMillis = failureBackoffMillis;
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = refreshExecutor;
+        this.budget = budget;
+        this.clock = clock;
+    }
+
+    /**
+     * @param symbol Upper-case symbol.
+     * @return The cached or freshly loaded price.
+     * @throws RuntimeException the loader's exception, if the price had to be loaded and the load failed,
+     *                          or failed within the backoff.
+     */
+    public Entry get(String symbol) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(symbol);
+        if (entry != null) {
+            long age = now - entry.loadedAtMillis();
+            if (age < ttlMillis) {
+                hits.increment();
+                entry.touch(now);
+                return entry;
+            }
+            if (age < ttlMillis + staleMillis) {
+                hits.increment();
+                entry.touch(now);
+                refreshAhead(symbol, entry, now);
+                return entry;
+            }
+        }
+        misses.increment();
+        Failure failure = failures.get(symbol);
+        if (failure != null && now < failure.untilMillis()) {
+            throw failure.cause();
+        }
+        return await(load(symbol));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return Number of calls made to the loader.
+     */
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void refreshAhead(String symbol, Entry stale, long now) {
+        if (inFlight.containsKey(symbol)) {
+            return;
+        }
+        Failure failure = failures.get(symbol);
+        if (failure != null && now < failure.untilMillis()) {
+            return;
+        }
+        if (budget.available(now) == 0) {
+            logger.debug("Background refresh of {} skipped: provider call budget is exhausted", symbol);
+            return;
+        }
+        // Reserved on the reader thread, so other readers in the stale window do not queue the same refresh
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(symbol, created) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> loadReserved(symbol, created).exceptionally(e -> {
+                // Keep serving the previous price until it leaves the stale window
+                logger.warn("Background refresh of {} failed: {}", symbol, e.getMessage());
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(symbol, created);
+            // Readers that joined the reservation in the meantime get the price being served
+            created.complete(stale);
+            logger.debug("Background refresh of {} skipped: executor is saturated", symbol);
+        }
+    }
+
+    /**
+     * Load a symbol in the calling thread, or join the load already running for it.
+     */
+    private CompletableFuture<Entry> load(String symbol) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(symbol, created);
+        if (existing != null) {
+            return existing;
+        }
+        return loadReserved(symbol, created);
+    }
+
+    /**
+     * Load a symbol whose in-flight slot is already held by 'created', and release the slot.
+     */
+    private CompletableFuture<Entry> loadReserved(String symbol, CompletableFuture<Entry> created) {
+        try {
+            // Another thread may have finished a load between our cache read and putIfAbsent
+            Entry current = entries.get(symbol);
+            if (current != null && clock.getAsLong() - current.loadedAtMillis() < ttlMillis) {
+                created.complete(current);
+                return created;
+            }
+            loads.increment();
+            BigDecimal price = loader.apply(symbol);
+            Entry loaded = new Entry(price, clock.getAsLong(), LocalDateTime.now());
+            store(symbol, loaded);
+            failures.remove(symbol);
+            created.complete(loaded);
+        } catch (RuntimeException e) {
+            recordFailure(symbol, e);
+            created.completeExceptionally(e);
+        } finally {
+            inFlight.remove(symbol, created);
+        }
+        return created;
+    }
+
+    private void store(String symbol, Entry entry) {
+        if (entries.put(symbol, entry) == null && entries.size() > maxEntries) {
+            evictLeastRecentlyRead(symbol);
+        }
+    }
+
+    private void recordFailure(String symbol, RuntimeException cause) {
+        if (failureBackoffMillis == 0) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (failures.size() >= maxEntries && !failures.containsKey(symbol)) {
+            failures.values().removeIf(failure -> failure.untilMillis() <= now);
+            if (failures.size() >= maxEntries) {
+                // Still full of recent failures: this symbol is simply retried on its next read
+                return;
+            }
+        }
+        failures.put(symbol, new Failure(cause, now + failureBackoffMillis));
+    }
+
+    // Linear scan, only when a new symbol pushes the cache over its bound
+    private void evictLeastRecentlyRead(String keep) {
+        String victim = null;
+        long oldest = Long.MAX_VALUE;
+        for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+            long readAt = candidate.getValue().lastReadMillis;
+            if (!candidate.getKey().equals(keep) && readAt < oldest) {
+                oldest = readAt;
+                victim = candidate.getKey();
+            }
+        }
+        if (victim != null) {
+            entries.remove(victim);
+        }
+    }
+
+    private static Entry await(CompletableFuture<Entry> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record Failure(RuntimeException cause, long untilMillis) {
+    }
+
+    /**
+     * A cached USD price and when it was fetched.
+     */
+    public static final class Entry {
+
+        private final BigDecimal price;
+        private final long loadedAtMillis;
+        private final LocalDateTime fetchedAt;
+        private volatile long lastReadMillis;
+
+        Entry(BigDecimal price, long loadedAtMillis, LocalDateTime fetchedAt) {
+            this.price = price;
+            this.loadedAtMillis = loadedAtMillis;
+            this.fetchedAt = fetchedAt;
+            this.lastReadMillis = loadedAtMillis;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public LocalDateTime getFetchedAt() {
+            return fetchedAt;
+        }
+
+        long loadedAtMillis() {
+            return loadedAtMillis;
+        }
+
+        private void touch(long now) {
+            if (now != lastReadMillis) {
+                lastReadMillis = now;
+            }
+        }
+    }
+}
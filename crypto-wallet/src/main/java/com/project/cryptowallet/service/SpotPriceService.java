@@ -0,0 +1,21 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.SpotPriceResponse;
+
+/**
+ * SpotPriceService answers single-symbol price lookups from a short-lived cache,
+ * independently of the wallet's scheduled refreshes.
+ */
+public interface SpotPriceService {
+
+    /**
+     * Get the latest price of a symbol. The provider is asked at most once per symbol per TTL.
+     *
+     * @param symbol   The asset symbol (any case).
+     * @param currency Optional currency to convert the price to, USD if null.
+     * @return The price and when it was fetched.
+     * @throws IllegalArgumentException if the symbol or the currency is unknown.
+     * @throws IllegalStateException    if the symbol map has not been loaded yet.
+     */
+    SpotPriceResponse getSpotPrice(String symbol, String currency);
+}
@@ -0,0 +1,86 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.HedgedPriceClient;
+import com.project.cryptowallet.client.RefreshBudget;
+import com.project.cryptowallet.dto.SpotPriceResponse;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class SpotPriceServiceImpl implements SpotPriceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotPriceServiceImpl.class);
+
+    // Background refreshes beyond this backlog are dropped; the stale price keeps being served
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_SIZE = 256;
+
+    private final WalletService walletService;
+    private final HedgedPriceClient priceClient;
+    private final FxRateService fxRateService;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final SpotPriceCache cache;
+
+    public SpotPriceServiceImpl(WalletService walletService,
+                                HedgedPriceClient priceClient,
+                                FxRateService fxRateService,
+                                RefreshBudget budget,
+                                @Value("${price.quote.ttl-ms:5000}") long ttlMillis,
+                                @Value("${price.quote.stale-ms:5000}") long staleMillis,
+                                @Value("${price.quote.failure-backoff-ms:1000}") long failureBackoffMillis,
+                                @Value("${price.quote.max-entries:1000}") int maxEntries) {
+        this.walletService = walletService;
+        this.priceClient = priceClient;
+        this.fxRateService = fxRateService;
+        this.refreshExecutor = new ThreadPoolExecutor(REFRESH_THREADS, REFRESH_THREADS, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(REFRESH_QUEUE_SIZE), runnable -> {
+                    Thread thread = new Thread(runnable, "spot-price-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.cache = new SpotPriceCache(this::fetchPrice, ttlMillis, staleMillis, failureBackoffMillis, maxEntries,
+                refreshExecutor, budget, System::currentTimeMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Override
+    public SpotPriceResponse getSpotPrice(String symbol, String currency) {
+        if (symbol == null || symbol.isBlank()) {
+            throw new IllegalArgumentException("A symbol is required");
+        }
+        // Resolve the currency first so an unknown one never costs a provider call
+        CurrencyConversion conversion = fxRateService.conversion(currency);
+        String key = symbol.trim().toUpperCase();
+        SpotPriceCache.Entry entry = cache.get(key);
+        return new SpotPriceResponse(key, conversion.apply(entry.getPrice()), conversion.getCurrency(), entry.getFetchedAt());
+    }
+
+    private BigDecimal fetchPrice(String symbol) {
+        if (!walletService.isReady()) {
+            throw new IllegalStateException("Symbol map is not loaded yet");
+        }
+        String assetId = walletService.findAssetId(symbol)
+                .orElseThrow(() -> new IllegalArgumentException("Unknown symbol: " + symbol));
+        BigDecimal price;
+        try {
+            // Every provider call, hedges included, is charged to the shared budget by the clients
+            price = priceClient.getLatestPrice(assetId);
+        } catch (RuntimeException e) {
+            throw new PriceUnavailableException("Price of " + symbol + " is not available: " + e.getMessage(), e);
+        }
+        logger.debug("Fetched spot price for {}: ${}", symbol, price);
+        return price;
+    }
+}
@@ -0,0 +1,123 @@
+package com.project.cryptowallet.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.project.cryptowallet.dto.PriceTick;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * TickSeriesWriter streams a price series page by page straight to an output stream, so a response never
+ * holds more than one page. Two layouts:
+ * <ul>
+ *     <li>JSON rows: {"symbol":"BTC","currency":"USD","ticks":[{"price":50000.12,"updatedAt":"2024-01-01T00:00:00"},...]}</li>
+ *     <li>Columnar CBOR: {"symbol":"BTC","currency":"USD","priceScale":2,"blocks":[{"dt":[...],"dp":[...]},...]}, one block per page.
+ *     'dt' holds epoch-millisecond deltas (timestamps read as UTC) and 'dp' holds deltas of the price in units
+ *     of 10^-priceScale, each relative to the previous tick of the series (the first relative to zero).
+ *     Small deltas encode as 1-3 byte CBOR integers.</li>
+ * </ul>
+ */
+public class TickSeriesWriter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final CBORFactory CBOR_FACTORY = new CBORFactory();
+
+    private final JsonGenerator generator;
+    private final boolean columnar;
+    private CurrencyConversion conversion = CurrencyConversion.USD;
+
+    // Previous tick, carried across blocks
+    private long previousTime;
+    private long previousPrice;
+    private long[] timeDeltas = new long[0];
+    private long[] priceDeltas = new long[0];
+
+    private TickSeriesWriter(JsonGenerator generator, boolean columnar) {
+        this.generator = generator;
+        this.columnar = columnar;
+    }
+
+    public static TickSeriesWriter json(OutputStream out) throws IOException {
+        return new TickSeriesWriter(JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8), false);
+    }
+
+    public static TickSeriesWriter columnar(OutputStream out) throws IOException {
+        return new TickSeriesWriter(CBOR_FACTORY.createGenerator(out), true);
+    }
+
+    public void begin(String symbol) throws IOException {
+        begin(symbol, CurrencyConversion.USD);
+    }
+
+    /**
+     * Start a series whose USD prices are converted on the way out; the converted price scale
+     * is that of the currency.
+     */
+    public void begin(String symbol, CurrencyConversion conversion) throws IOException {
+        this.conversion = conversion;
+        generator.writeStartObject();
+        generator.writeStringField("symbol", symbol);
+        generator.writeStringField("currency", conversion.getCurrency());
+        if (columnar) {
+            generator.writeNumberField("priceScale", conversion.getScale());
+            generator.writeArrayFieldStart("blocks");
+        } else {
+            generator.writeArrayFieldStart("ticks");
+        }
+    }
+
+    public void writePage(List<PriceTick> ticks) throws IOException {
+        if (ticks.isEmpty()) {
+            return;
+        }
+        if (!columnar) {
+            for (PriceTick tick : ticks) {
+                generator.writeStartObject();
+                generator.writeNumberField("price", conversion.apply(tick.getPrice()));
+                generator.writeStringField("updatedAt", tick.getUpdatedAt().toString());
+                generator.writeEndObject();
+            }
+            return;
+        }
+
+        int count = ticks.size();
+        if (timeDeltas.length < count) {
+            timeDeltas = new long[count];
+            priceDeltas = new long[count];
+        }
+        for (int i = 0; i < count; i++) {
+            PriceTick tick = ticks.get(i);
+            long time = toEpochMillis(tick.getUpdatedAt());
+            long price = conversion.apply(tick.getPrice()).unscaledValue().longValueExact();
+            timeDeltas[i] = time - previousTime;
+            priceDeltas[i] = price - previousPrice;
+            previousTime = time;
+            previousPrice = price;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName("dt");
+        generator.writeArray(timeDeltas, 0, count);
+        generator.writeFieldName("dp");
+        generator.writeArray(priceDeltas, 0, count);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Close the series and flush. The underlying stream is left open.
+     */
+    public void end() throws IOException {
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    static long toEpochMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -5,6 +5,7 @@ import com.project.cryptowallet.model.WalletAsset;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * WalletService defines the business logic for managing the crypto wallet.
@@ -32,13 +33,33 @@ public interface WalletService {
      * - If 'timestamp' is null, fetch the current wallet summary.
      *
      * @param timestamp Optional timestamp for the historical summary.
+     * @param currency  Optional valuation currency, USD if null.
      * @return WalletSummaryResponse containing wallet details.
+     * @throws IllegalArgumentException if the currency is unknown.
      */
-    WalletSummaryResponse getWalletSummary(LocalDateTime timestamp);
+    WalletSummaryResponse getWalletSummary(LocalDateTime timestamp, String currency);
     /**
-     * Set the frequency (in seconds) for updating wallet prices.
+     * Set the base frequency (in seconds) for updating wallet prices.
+     * Each symbol's actual interval adapts around this base; the change applies live
+     * without restarting the scheduler.
      *
      * @param frequencyInSeconds The new frequency in seconds.
      */
     void setUpdateFrequency(long frequencyInSeconds);
+
+    /**
+     * Whether the service can resolve symbols to prices, either from the warm-start snapshot
+     * or from a completed CoinCap warm-up. Used for the readiness probe; liveness does not depend on it.
+     *
+     * @return true once the symbol map is available.
+     */
+    boolean isReady();
+
+    /**
+     * Look up the CoinCap asset ID of a symbol in the current symbol map.
+     *
+     * @param symbol Upper-case asset symbol.
+     * @return The asset ID, or empty if the symbol is unknown.
+     */
+    Optional<String> findAssetId(String symbol);
 }
@@ -1,6 +1,10 @@
 package com.project.cryptowallet.service;
 
 import com.project.cryptowallet.client.CoinCapClient;
+import com.project.cryptowallet.client.HedgedPriceClient;
+import com.project.cryptowallet.dto.AssetHolding;
+import com.project.cryptowallet.dto.PriceSnapshot;
+import com.project.cryptowallet.dto.SymbolTotal;
 import com.project.cryptowallet.dto.WalletSummaryResponse;
 import com.project.cryptowallet.model.WalletAsset;
 import com.project.cryptowallet.model.WalletAssetHistory;
@@ -8,19 +12,27 @@ import com.project.cryptowallet.repository.WalletAssetHistoryRepository;
 import com.project.cryptowallet.repository.WalletAssetRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PreDestroy;
+
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 @Service
+@Lazy(false) // Restores the warm-start snapshot and owns the background refresh, even under lazy init
 public class WalletServiceImpl implements WalletService {
 
     private static final Logger logger = LoggerFactory.getLogger(WalletServiceImpl.class);
@@ -28,28 +40,99 @@ public class WalletServiceImpl implements WalletService {
     private final WalletAssetRepository walletAssetRepository;
     private final WalletAssetHistoryRepository walletAssetHistoryRepository;
     private final CoinCapClient coinCapClient;
+    private final HedgedPriceClient priceClient;
+    private final AdaptiveRefreshScheduler refreshScheduler;
+    private final PriceSnapshotStore snapshotStore;
+    private final RiskAnalyticsService riskAnalyticsService;
+    private final PriceAlertService priceAlertService;
+    private final FxRateService fxRateService;
+
+    // How often the dispatcher checks the refresh queue for due symbols
+    private static final long DISPATCH_TICK_MILLIS = 1000;
+    // Back-off between failed warm-up attempts and interval between snapshot writes
+    private static final long WARMUP_RETRY_SECONDS = 15;
+    private static final long SNAPSHOT_INTERVAL_SECONDS = 60;
 
     private final ExecutorService executor = Executors.newFixedThreadPool(3);
     private ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
-    private Map<String, String> symbolToIdMap = new ConcurrentHashMap<>();
-    private long frequencyInSeconds;
+    private volatile Map<String, String> symbolToIdMap = new ConcurrentHashMap<>();
+    private final Map<String, BigDecimal> lastKnownPrices = new ConcurrentHashMap<>();
+    private final AtomicBoolean trackedSymbolsSeeded = new AtomicBoolean(false);
+
+    // Wallet rows and quantities per symbol, replaced on saveAssets
+    private final Object holdingsLock = new Object();
+    private volatile Holdings holdings;
+    private long holdingsGeneration;
 
     public WalletServiceImpl(WalletAssetRepository walletAssetRepository,
                              WalletAssetHistoryRepository walletAssetHistoryRepository,
                              CoinCapClient coinCapClient,
-                             @Value("${price.update.frequency:10}") long defaultFrequency) {
+                             HedgedPriceClient priceClient,
+                             AdaptiveRefreshScheduler refreshScheduler,
+                             PriceSnapshotStore snapshotStore,
+                             RiskAnalyticsService riskAnalyticsService,
+                             PriceAlertService priceAlertService,
+                             FxRateService fxRateService) {
         this.walletAssetRepository = walletAssetRepository;
         this.walletAssetHistoryRepository = walletAssetHistoryRepository;
         this.coinCapClient = coinCapClient;
-        this.frequencyInSeconds = defaultFrequency;
+        this.priceClient = priceClient;
+        this.refreshScheduler = refreshScheduler;
+        this.snapshotStore = snapshotStore;
+        this.riskAnalyticsService = riskAnalyticsService;
+        this.priceAlertService = priceAlertService;
+        this.fxRateService = fxRateService;
+
+        // Local file only; all network work is deferred to the background warm-up
+        restoreSnapshot();
+    }
 
-        refreshSymbolToIdMap();
-        startScheduledTask();
+    /**
+     * Start the background work once the application is ready to serve:
+     * the CoinCap warm-up, the refresh dispatcher and periodic snapshot writes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.execute(this::warmUp);
+        scheduler.scheduleWithFixedDelay(this::dispatchDueRefreshes, DISPATCH_TICK_MILLIS, DISPATCH_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::saveSnapshot, SNAPSHOT_INTERVAL_SECONDS, SNAPSHOT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+        executor.shutdown();
+        saveSnapshot();
+    }
+
+    @Override
+    public boolean isReady() {
+        return !symbolToIdMap.isEmpty();
+    }
+
+    @Override
+    public Optional<String> findAssetId(String symbol) {
+        return Optional.ofNullable(symbolToIdMap.get(symbol));
     }
 
     @Override
     public void saveAssets(List<WalletAsset> assets) {
+        // Warm-started prices give new assets a value before their first refresh
+        assets.stream()
+                .filter(asset -> asset.getLatestPrice() == null)
+                .forEach(asset -> asset.setLatestPrice(lastKnownPrices.get(asset.getSymbol().toUpperCase())));
         walletAssetRepository.saveAll(assets);
+        invalidateHoldings();
+
+        long now = System.currentTimeMillis();
+        Holdings current = holdings();
+        assets.stream()
+                .map(asset -> asset.getSymbol().toUpperCase())
+                .distinct()
+                .forEach(symbol -> {
+                    trackHolding(symbol, current.quantity(symbol), now);
+                    riskAnalyticsService.updateQuantity(symbol, current.quantity(symbol));
+                });
         logger.info("Saved successfully: {} Assets", assets.size());
     }
 
@@ -59,12 +142,12 @@ public class WalletServiceImpl implements WalletService {
         logger.info("Starting price update process at {}", LocalDateTime.now());
         refreshSymbolToIdMap();
 
-        List<WalletAsset> assets = walletAssetRepository.findAll();
+        Holdings current = holdings();
 
-        // Limit concurrency to 3 threads using Semaphore
+        // One provider call per symbol, limited to 3 concurrent calls using Semaphore
         Semaphore semaphore = new Semaphore(3);
-        List<CompletableFuture<Void>> futures = assets.stream()
-                .map(asset -> processAssetPriceUpdate(asset, semaphore))
+        List<CompletableFuture<Void>> futures = current.assetIds().keySet().stream()
+                .map(symbol -> processSymbolPriceUpdate(symbol, current, semaphore))
                 .collect(Collectors.toList());
 
         // Wait for all tasks to complete
@@ -75,50 +158,43 @@ public class WalletServiceImpl implements WalletService {
 
 
     @Override
-    public WalletSummaryResponse getWalletSummary(LocalDateTime timestamp) {
+    public WalletSummaryResponse getWalletSummary(LocalDateTime timestamp, String currency) {
         logger.info("Starting wallet summary generation at {}", LocalDateTime.now());
+        CurrencyConversion conversion = fxRateService.conversion(currency);
 
-        // Step 1: Wait for all price updates to complete
-        updatePricesConcurrently();
-
-        // Step 2: Fetch all updated assets
-        List<WalletAsset> assets = walletAssetRepository.findAll();
+        // Step 1: Let the database sum quantity and value per symbol from the stored latest prices,
+        // which the background refresh keeps current; a summary never calls the providers
+        List<SymbolTotal> totals = walletAssetRepository.sumBySymbol();
 
-        // Step 3: Calculate total wallet value and aggregate quantities
+        // Step 2: Calculate total wallet value
         BigDecimal totalValue = BigDecimal.ZERO;
-        Map<String, BigDecimal> totalQuantities = new HashMap<>();
-
-        for (WalletAsset asset : assets) {
-            BigDecimal price = asset.getLatestPrice() != null ? asset.getLatestPrice() : BigDecimal.ZERO;
-            totalValue = totalValue.add(price.multiply(asset.getQuantity()));
-
-            totalQuantities.merge(asset.getSymbol(), asset.getQuantity(), BigDecimal::add);
+        for (SymbolTotal total : totals) {
+            if (total.getValue() != null) {
+                totalValue = totalValue.add(total.getValue());
+            }
         }
 
         logger.info("Total wallet value: ${}", totalValue.setScale(2, RoundingMode.HALF_UP));
-        totalQuantities.forEach((symbol, quantity) ->
-                logger.info("Symbol: {}, Total Quantity: {}", symbol, quantity));
+        totals.forEach(total ->
+                logger.info("Symbol: {}, Total Quantity: {}", total.getSymbol(), total.getQuantity()));
 
-        return new WalletSummaryResponse(
-                totalValue.setScale(2, RoundingMode.HALF_UP),
+        WalletSummaryResponse summary = new WalletSummaryResponse(
+                conversion.apply(totalValue),
                 "N/A", BigDecimal.ZERO, "N/A", BigDecimal.ZERO
         );
+        summary.setCurrency(conversion.getCurrency());
+        return summary;
     }
 
 
     @Override
     public void setUpdateFrequency(long frequencyInSeconds) {
-        logger.info("Updating scheduler frequency to {} seconds.", frequencyInSeconds);
-        this.frequencyInSeconds = frequencyInSeconds;
-
-        scheduler.shutdownNow();
-        scheduler = Executors.newScheduledThreadPool(1);
-        startScheduledTask();
+        logger.info("Updating base refresh interval to {} seconds.", frequencyInSeconds);
+        refreshScheduler.setBaseIntervalSeconds(frequencyInSeconds);
     }
 
-    private CompletableFuture<Void> processAssetPriceUpdate(WalletAsset asset, Semaphore semaphore) {
+    private CompletableFuture<Void> processSymbolPriceUpdate(String symbol, Holdings current, Semaphore semaphore) {
         return CompletableFuture.runAsync(() -> {
-            String symbol = asset.getSymbol().toUpperCase();
             String assetId = symbolToIdMap.get(symbol);
 
             if (assetId == null) {
@@ -130,15 +206,12 @@ public class WalletServiceImpl implements WalletService {
                 semaphore.acquire();
                 logger.info("Submitted request to update {} at {}", symbol, LocalDateTime.now());
 
-                BigDecimal latestPrice = coinCapClient.getLatestPrice(assetId);
-                asset.setLatestPrice(latestPrice);
-
-                WalletAssetHistory history = new WalletAssetHistory(
-                        asset.getSymbol(), latestPrice, LocalDateTime.now(), asset
-                );
-
-                walletAssetHistoryRepository.save(history);
-                walletAssetRepository.save(asset);
+                BigDecimal latestPrice = priceClient.getLatestPrice(assetId);
+                // Alerts fire before the price is stored, so a crash in between never loses a crossing
+                priceAlertService.onPriceUpdate(symbol, latestPrice);
+                applyLatestPrice(symbol, latestPrice, current.assetIds().get(symbol));
+                refreshScheduler.completed(symbol, latestPrice, latestPrice.multiply(current.quantity(symbol)), System.currentTimeMillis());
+                riskAnalyticsService.recordPrice(symbol, latestPrice, System.currentTimeMillis());
 
                 logger.info("Successfully updated price for {}: ${} at {}", symbol, latestPrice, LocalDateTime.now());
             } catch (Exception e) {
@@ -150,12 +223,174 @@ public class WalletServiceImpl implements WalletService {
     }
 
 
-    private void startScheduledTask() {
-        scheduler.scheduleAtFixedRate(this::updatePricesConcurrently, 0, frequencyInSeconds, TimeUnit.SECONDS);
+    /**
+     * Refresh a single symbol: one provider call, applied to every wallet row holding it.
+     * The symbol is then rescheduled according to its volatility and total held value.
+     */
+    private void refreshSymbol(String symbol) {
+        if (holdings().quantity(symbol).signum() == 0) {
+            logger.info("Nothing held in {} any more, no longer refreshing it.", symbol);
+            refreshScheduler.untrack(symbol);
+            return;
+        }
+        String assetId = symbolToIdMap.get(symbol);
+        if (assetId == null) {
+            logger.warn("No asset ID found for symbol: {}", symbol);
+            refreshScheduler.failed(symbol, System.currentTimeMillis());
+            return;
+        }
+
+        try {
+            BigDecimal latestPrice = priceClient.getLatestPrice(assetId);
+            Holdings current = holdings();
+            BigDecimal totalQuantity = current.quantity(symbol);
+            // Alerts fire before the price is stored, so a crash in between never loses a crossing
+            priceAlertService.onPriceUpdate(symbol, latestPrice);
+            applyLatestPrice(symbol, latestPrice, current.assetIds().getOrDefault(symbol, List.of()));
+            refreshScheduler.completed(symbol, latestPrice, latestPrice.multiply(totalQuantity), System.currentTimeMillis());
+            riskAnalyticsService.updateQuantity(symbol, totalQuantity);
+            riskAnalyticsService.recordPrice(symbol, latestPrice, System.currentTimeMillis());
+            logger.debug("Scheduled refresh for {}: ${}, next in {} ms", symbol, latestPrice, refreshScheduler.getIntervalMillis(symbol));
+        } catch (Exception e) {
+            logger.error("Error refreshing price for {}: {}", symbol, e.getMessage(), e);
+            refreshScheduler.failed(symbol, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Write a new price to every row of a symbol with one bulk update, and one history row per wallet row.
+     * History rows reference their wallet row by ID only, so no WalletAsset is loaded.
+     */
+    private void applyLatestPrice(String symbol, BigDecimal latestPrice, List<Long> assetIds) {
+        lastKnownPrices.put(symbol, latestPrice);
+        walletAssetRepository.updateLatestPrice(symbol, latestPrice);
+
+        // History symbols are stored upper-case so per-symbol range scans can use the index
+        LocalDateTime now = LocalDateTime.now();
+        List<WalletAssetHistory> history = assetIds.stream()
+                .map(id -> new WalletAssetHistory(symbol, latestPrice, now, walletAssetRepository.getReferenceById(id)))
+                .collect(Collectors.toList());
+        walletAssetHistoryRepository.saveAll(history);
+    }
+
+    /**
+     * The cached holdings, loaded from a projection query on first use after an invalidation.
+     * Quantities and rows only change in saveAssets, so price refreshes never reload them.
+     */
+    private Holdings holdings() {
+        Holdings current = holdings;
+        if (current != null) {
+            return current;
+        }
+        long generation;
+        synchronized (holdingsLock) {
+            generation = holdingsGeneration;
+        }
+        Holdings loaded = Holdings.from(walletAssetRepository.findAllHoldings());
+        synchronized (holdingsLock) {
+            // Don't publish a snapshot read before a concurrent saveAssets
+            if (holdingsGeneration == generation) {
+                holdings = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private void invalidateHoldings() {
+        synchronized (holdingsLock) {
+            holdingsGeneration++;
+            holdings = null;
+        }
+    }
+
+    /**
+     * Dispatcher tick: hand every due symbol to the worker pool. Symbols stay out of the
+     * queue while in flight, so a slow refresh is never dispatched twice.
+     */
+    private void dispatchDueRefreshes() {
+        try {
+            long now = System.currentTimeMillis();
+            if (trackedSymbolsSeeded.compareAndSet(false, true)) {
+                holdings().quantities().forEach((symbol, quantity) -> {
+                    trackHolding(symbol, quantity, now);
+                    riskAnalyticsService.updateQuantity(symbol, quantity);
+                });
+            }
+            for (String symbol : refreshScheduler.pollDue(now)) {
+                CompletableFuture.runAsync(() -> refreshSymbol(symbol), executor);
+            }
+        } catch (Exception e) {
+            // Never let an exception escape, it would cancel the periodic task
+            logger.error("Error dispatching scheduled refreshes: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Schedule refreshes for a symbol while something is held in it, and drop it once its holdings reach zero.
+     */
+    private void trackHolding(String symbol, BigDecimal quantity, long now) {
+        if (quantity.signum() == 0) {
+            refreshScheduler.untrack(symbol);
+        } else {
+            refreshScheduler.track(symbol, now);
+        }
+    }
+
+    /**
+     * Fetch the symbol map in the background, retrying with a fixed back-off until CoinCap answers.
+     */
+    private void warmUp() {
+        try {
+            refreshSymbolToIdMap();
+            logger.info("Warm-up completed with {} known symbols.", symbolToIdMap.size());
+        } catch (Exception e) {
+            logger.warn("Warm-up failed, retrying in {} seconds: {}", WARMUP_RETRY_SECONDS, e.getMessage());
+            scheduler.schedule(this::warmUp, WARMUP_RETRY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void restoreSnapshot() {
+        snapshotStore.load().ifPresent(snapshot -> {
+            if (snapshot.getSymbolToIdMap() != null && !snapshot.getSymbolToIdMap().isEmpty()) {
+                this.symbolToIdMap = new ConcurrentHashMap<>(snapshot.getSymbolToIdMap());
+            }
+            if (snapshot.getPrices() != null) {
+                lastKnownPrices.putAll(snapshot.getPrices());
+            }
+            logger.info("Warm-started with {} symbols and {} prices.", symbolToIdMap.size(), lastKnownPrices.size());
+        });
+    }
+
+    private void saveSnapshot() {
+        try {
+            snapshotStore.save(new PriceSnapshot(LocalDateTime.now(), new HashMap<>(symbolToIdMap), new HashMap<>(lastKnownPrices)));
+        } catch (Exception e) {
+            logger.error("Error saving price snapshot: {}", e.getMessage(), e);
+        }
     }
 
     private void refreshSymbolToIdMap() {
         this.symbolToIdMap = coinCapClient.fetchValidAssets();
         logger.info("Symbol-to-ID map refreshed.");
     }
+
+    /**
+     * Immutable snapshot of the wallet rows per upper-case symbol.
+     */
+    private record Holdings(Map<String, List<Long>> assetIds, Map<String, BigDecimal> quantities) {
+
+        static Holdings from(List<AssetHolding> rows) {
+            Map<String, List<Long>> assetIds = new HashMap<>();
+            Map<String, BigDecimal> quantities = new HashMap<>();
+            for (AssetHolding row : rows) {
+                assetIds.computeIfAbsent(row.getSymbol(), s -> new ArrayList<>()).add(row.getId());
+                quantities.merge(row.getSymbol(), row.getQuantity() != null ? row.getQuantity() : BigDecimal.ZERO, BigDecimal::add);
+            }
+            return new Holdings(Map.copyOf(assetIds), Map.copyOf(quantities));
+        }
+
+        BigDecimal quantity(String symbol) {
+            return quantities.getOrDefault(symbol, BigDecimal.ZERO);
+        }
+    }
 }
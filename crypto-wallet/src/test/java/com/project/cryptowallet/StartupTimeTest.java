@@ -0,0 +1,79 @@
+package com.project.cryptowallet;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.cryptowallet.dto.PriceSnapshot;
+import com.project.cryptowallet.health.PriceDataHealthIndicator;
+import com.project.cryptowallet.service.WalletService;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the full application against an unreachable CoinCap URL to prove startup never waits on the network.
+ */
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class StartupTimeTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupTimeTest.class);
+
+    // Generous bound for CI machines; a cold start is typically a few seconds
+    private static final Duration MAX_STARTUP = Duration.ofSeconds(20);
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Cold Start Without CoinCap")
+    public void testColdStartWithoutNetwork() {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = startApplication("")) {
+            Duration startup = Duration.ofNanos(System.nanoTime() - start);
+            logger.info("Cold startup took {} ms", startup.toMillis());
+
+            assertTrue(startup.compareTo(MAX_STARTUP) < 0, "Startup took " + startup.toMillis() + " ms");
+            assertFalse(context.getBean(WalletService.class).isReady());
+            assertEquals(Status.OUT_OF_SERVICE, context.getBean(PriceDataHealthIndicator.class).health().getStatus());
+        }
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Warm Start From Snapshot")
+    public void testWarmStartFromSnapshot() throws Exception {
+        Path snapshotFile = Files.createTempFile("price-snapshot", ".json");
+        PriceSnapshot snapshot = new PriceSnapshot(LocalDateTime.now(),
+                Map.of("BTC", "bitcoin"), Map.of("BTC", BigDecimal.valueOf(50000)));
+        new ObjectMapper().findAndRegisterModules().writeValue(snapshotFile.toFile(), snapshot);
+
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = startApplication(snapshotFile.toString())) {
+            Duration startup = Duration.ofNanos(System.nanoTime() - start);
+            logger.info("Warm startup took {} ms", startup.toMillis());
+
+            assertTrue(startup.compareTo(MAX_STARTUP) < 0, "Startup took " + startup.toMillis() + " ms");
+            assertTrue(context.getBean(WalletService.class).isReady());
+            assertEquals(Status.UP, context.getBean(PriceDataHealthIndicator.class).health().getStatus());
+        } finally {
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    private ConfigurableApplicationContext startApplication(String snapshotFile) {
+        // Command-line arguments take precedence over application.properties
+        return new SpringApplicationBuilder(CryptoWalletApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:startup-" + System.nanoTime(),
+                        "--coincap.api.base-url=http://localhost:1",
+                        "--price.snapshot.file=" + snapshotFile);
+    }
+}
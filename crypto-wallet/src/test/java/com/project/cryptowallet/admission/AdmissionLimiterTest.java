@@ -0,0 +1,109 @@
+package com.project.cryptowallet.admission;
+
+import org.junit.jupiter.api.*;
+
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AdmissionLimiterTest {
+
+    private static final long MILLIS = 1_000_000;
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Requests Beyond The Limit And Queue Are Rejected")
+    public void testQueueFull() {
+        AdmissionLimiter limiter = new AdmissionLimiter("/summary", AdmissionLimiter.Priority.HIGH,
+                new GradientLimit(2, 1, 10), 0, 0);
+
+        AdmissionLimiter.Permit first = limiter.acquire();
+        limiter.acquire();
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class, limiter::acquire);
+
+        assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL, rejected.getReason());
+        assertTrue(rejected.getRetryAfterSeconds() >= 1);
+        first.release(true);
+        assertNotNull(limiter.acquire());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Queued Requests Get A Released Slot Or Time Out")
+    public void testQueueWait() throws Exception {
+        AdmissionLimiter limiter = new AdmissionLimiter("/summary", AdmissionLimiter.Priority.HIGH,
+                new GradientLimit(1, 1, 10), 1, 2000);
+        AdmissionLimiter.Permit held = limiter.acquire();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<AdmissionLimiter.Permit> queued = pool.submit(limiter::acquire);
+            while (limiter.getWaiting() == 0) {
+                Thread.sleep(1);
+            }
+            // The queue holds one request
+            assertEquals(AdmissionRejectedException.Reason.QUEUE_FULL,
+                    assertThrows(AdmissionRejectedException.class, limiter::acquire).getReason());
+
+            held.release(true);
+            assertNotNull(queued.get(2, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        AdmissionLimiter shortWait = new AdmissionLimiter("/summary", AdmissionLimiter.Priority.HIGH,
+                new GradientLimit(1, 1, 10), 1, 20);
+        shortWait.acquire();
+        assertEquals(AdmissionRejectedException.Reason.TIMEOUT,
+                assertThrows(AdmissionRejectedException.class, shortWait::acquire).getReason());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Low Priority Work Is Shed While Reads Are Saturated")
+    public void testPrioritySeparation() {
+        AdmissionLimiter summary = new AdmissionLimiter("/summary", AdmissionLimiter.Priority.HIGH,
+                new GradientLimit(1, 1, 10), 0, 0);
+        AdmissionLimiter update = new AdmissionLimiter("/update", AdmissionLimiter.Priority.LOW,
+                new GradientLimit(2, 1, 3), 0, 0);
+        AdmissionControl control = new AdmissionControl(List.of(summary, update));
+
+        AdmissionLimiter.Permit read = control.acquire(summary);
+        assertEquals(AdmissionRejectedException.Reason.SHED,
+                assertThrows(AdmissionRejectedException.class, () -> control.acquire(update)).getReason());
+
+        read.release(true);
+        assertNotNull(control.acquire(update));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. The Limit Grows Under Steady Latency And Shrinks When Latency Rises")
+    public void testGradientLimit() {
+        GradientLimit limit = new GradientLimit(10, 2, 100);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(10 * MILLIS, limit.getLimit());
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 10, "Limit should grow while latency is flat: " + grown);
+
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(80 * MILLIS, limit.getLimit());
+        }
+        assertTrue(limit.getLimit() < grown / 2, "Limit should shrink when latency rises: " + limit.getLimit());
+        assertTrue(limit.getLimit() >= 2);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. An Idle Endpoint Does Not Grow Its Limit")
+    public void testAppLimited() {
+        GradientLimit limit = new GradientLimit(20, 2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MILLIS, 1);
+        }
+        assertEquals(20, limit.getLimit());
+    }
+}
@@ -0,0 +1,189 @@
+package com.project.cryptowallet.client;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HedgedPriceClientTest {
+
+    private final RefreshBudget budget = new RefreshBudget(6000);
+    private HedgedPriceClient priceClient;
+
+    @AfterEach
+    public void tearDown() {
+        if (priceClient != null) {
+            priceClient.stop();
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Fast Primary Answers Alone")
+    public void testFastPrimary() {
+        StubProvider primary = new StubProvider("primary", 0, false, 100);
+        StubProvider secondary = new StubProvider("secondary", 0, false, 200);
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 200, 20, 2000, 5000, 16, budget);
+
+        assertEquals(BigDecimal.valueOf(100), priceClient.getLatestPrice("bitcoin"));
+        assertEquals(1, primary.calls.get());
+        assertEquals(0, secondary.calls.get());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Slow Primary Is Hedged After Its p95")
+    public void testSlowPrimaryIsHedged() {
+        StubProvider primary = new StubProvider("primary", 10, false, 100);
+        StubProvider secondary = new StubProvider("secondary", 10, false, 200);
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 200, 20, 2000, 5000, 16, budget);
+
+        // Learn the primary's normal latency
+        for (int i = 0; i < 20; i++) {
+            assertEquals(BigDecimal.valueOf(100), priceClient.getLatestPrice("bitcoin"));
+        }
+        assertEquals(0, secondary.calls.get());
+
+        primary.delayMillis = 3000;
+        long start = System.nanoTime();
+        BigDecimal price = priceClient.getLatestPrice("bitcoin");
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(BigDecimal.valueOf(200), price);
+        assertEquals(1, secondary.calls.get());
+        assertTrue(elapsedMillis < 1000, "Hedge should answer well before the slow primary: " + elapsedMillis + " ms");
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Failure Falls Through Immediately")
+    public void testFailureFallsThrough() {
+        StubProvider primary = new StubProvider("primary", 0, true, 100);
+        StubProvider secondary = new StubProvider("secondary", 0, false, 200);
+        // Long default hedge delay: only the failure can explain a fast answer
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 2000, 20, 2000, 5000, 16, budget);
+
+        long start = System.nanoTime();
+        assertEquals(BigDecimal.valueOf(200), priceClient.getLatestPrice("bitcoin"));
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 1000);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Failing Provider Is Demoted")
+    public void testHealthRanking() {
+        StubProvider primary = new StubProvider("primary", 0, true, 100);
+        StubProvider secondary = new StubProvider("secondary", 0, false, 200);
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 200, 20, 2000, 5000, 16, budget);
+
+        for (int i = 0; i < 5; i++) {
+            priceClient.getLatestPrice("bitcoin");
+        }
+
+        assertSame(secondary, priceClient.rankedProviders().get(0));
+        int primaryCalls = primary.calls.get();
+        priceClient.getLatestPrice("bitcoin");
+        assertEquals(primaryCalls, primary.calls.get(), "Demoted provider is not asked while the leader answers");
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Invalid Prices Are Rejected And Total Failure Is Reported")
+    public void testAllProvidersFail() {
+        StubProvider zero = new StubProvider("zero", 0, false, 0);
+        StubProvider failing = new StubProvider("failing", 0, true, 100);
+        priceClient = new HedgedPriceClient(List.of(zero, failing), 200, 20, 2000, 5000, 16, budget);
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> priceClient.getLatestPrice("bitcoin"));
+        assertTrue(exception.getMessage().contains("All price providers failed"));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. No Hedge Without Budget, And Losing Calls Are Cancelled")
+    public void testHedgeBudgetAndCancellation() {
+        StubProvider primary = new StubProvider("primary", 300, false, 100);
+        StubProvider secondary = new StubProvider("secondary", 0, false, 200);
+        RefreshBudget exhausted = new RefreshBudget(60);
+        exhausted.consume(System.currentTimeMillis());
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 20, 20, 2000, 5000, 16, exhausted);
+
+        assertEquals(BigDecimal.valueOf(100), priceClient.getLatestPrice("bitcoin"));
+        assertEquals(0, secondary.calls.get(), "The hedge is an extra call and needs budget");
+        priceClient.stop();
+
+        primary.delayMillis = 3000;
+        priceClient = new HedgedPriceClient(List.of(primary, secondary), 20, 20, 2000, 5000, 16, budget);
+        assertEquals(BigDecimal.valueOf(200), priceClient.getLatestPrice("bitcoin"));
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!primary.interrupted.get() && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(primary.interrupted.get(), "The slow primary should be cancelled once the hedge wins");
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Providers Without The Asset Are Skipped")
+    public void testUnsupportedAsset() {
+        StubProvider primary = new StubProvider("primary", 0, true, 100);
+        StubProvider partial = new StubProvider("partial", 0, false, 200);
+        partial.supported = false;
+        priceClient = new HedgedPriceClient(List.of(primary, partial), 200, 20, 2000, 5000, 16, budget);
+
+        assertThrows(RuntimeException.class, () -> priceClient.getLatestPrice("bitcoin"));
+        assertEquals(0, partial.calls.get());
+        assertEquals(List.of(primary), priceClient.rankedProviders("bitcoin"));
+    }
+
+    /**
+     * Local provider with an injectable delay, failure mode and fixed price.
+     */
+    private static final class StubProvider implements PriceProvider {
+
+        private final String name;
+        private final boolean failing;
+        private final BigDecimal price;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean interrupted = new AtomicBoolean();
+        private volatile long delayMillis;
+        private volatile boolean supported = true;
+
+        private StubProvider(String name, long delayMillis, boolean failing, long price) {
+            this.name = name;
+            this.delayMillis = delayMillis;
+            this.failing = failing;
+            this.price = BigDecimal.valueOf(price);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public boolean supports(String assetId) {
+            return supported;
+        }
+
+        @Override
+        public BigDecimal getLatestPrice(String assetId) {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+                throw new RuntimeException(name + " was cancelled", e);
+            }
+            if (failing) {
+                throw new RuntimeException(name + " is down");
+            }
+            return price;
+        }
+    }
+}
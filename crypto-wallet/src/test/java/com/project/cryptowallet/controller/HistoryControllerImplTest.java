@@ -0,0 +1,70 @@
+package com.project.cryptowallet.controller;
+
+import com.project.cryptowallet.dto.HistoryQuery;
+import com.project.cryptowallet.service.HistoryService;
+import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class HistoryControllerImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final HistoryService historyService = Mockito.mock(HistoryService.class);
+    private final MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new HistoryControllerImpl(historyService)).build();
+
+    @BeforeEach
+    void setup() {
+        when(historyService.resolve(eq("BTC"), any(), any(), any()))
+                .thenReturn(new HistoryQuery("BTC", START, START.plusDays(1), "USD"));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. JSON Without An Accept Header")
+    void testNoAccept() throws Exception {
+        expectContentType(get("/api/wallet/history").param("symbol", "BTC"), MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. JSON For A Wildcard Accept Header")
+    void testWildcardAccept() throws Exception {
+        expectContentType(get("/api/wallet/history").param("symbol", "BTC")
+                .header(HttpHeaders.ACCEPT, MediaType.ALL_VALUE), MediaType.APPLICATION_JSON);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. CBOR Only When Explicitly Accepted")
+    void testCborAccept() throws Exception {
+        expectContentType(get("/api/wallet/history").param("symbol", "BTC")
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_CBOR_VALUE), MediaType.APPLICATION_CBOR);
+        expectContentType(get("/api/wallet/history").param("symbol", "BTC")
+                .header(HttpHeaders.ACCEPT, "application/cbor;q=0.5, application/json"), MediaType.APPLICATION_JSON);
+    }
+
+    private void expectContentType(MockHttpServletRequestBuilder builder, MediaType expected) throws Exception {
+        MvcResult result = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(expected));
+        verify(historyService, atLeastOnce()).writeHistory(any(), any());
+    }
+}
@@ -54,12 +54,12 @@ class WalletControllerImplTest {
         WalletSummaryResponse mockSummary = new WalletSummaryResponse(
                 new BigDecimal("20000"), "BTC", new BigDecimal("5.0"), "ETH", new BigDecimal("1.2")
         );
-        when(walletService.getWalletSummary(null)).thenReturn(mockSummary);
+        when(walletService.getWalletSummary(null, null)).thenReturn(mockSummary);
 
-        ResponseEntity<WalletSummaryResponse> response = walletController.getWalletSummary(null);
+        ResponseEntity<WalletSummaryResponse> response = walletController.getWalletSummary(null, null);
         assertEquals(OK, response.getStatusCode());
         assertEquals(mockSummary, response.getBody());
-        verify(walletService, times(1)).getWalletSummary(null);
+        verify(walletService, times(1)).getWalletSummary(null, null);
     }
 
     @Test
@@ -70,12 +70,12 @@ class WalletControllerImplTest {
         WalletSummaryResponse mockSummary = new WalletSummaryResponse(
                 new BigDecimal("18000"), "ETH", new BigDecimal("4.5"), "DOGE", new BigDecimal("0.8")
         );
-        when(walletService.getWalletSummary(timestamp)).thenReturn(mockSummary);
+        when(walletService.getWalletSummary(timestamp, null)).thenReturn(mockSummary);
 
-        ResponseEntity<WalletSummaryResponse> response = walletController.getWalletSummary(timestamp);
+        ResponseEntity<WalletSummaryResponse> response = walletController.getWalletSummary(timestamp, null);
         assertEquals(OK, response.getStatusCode());
         assertEquals(mockSummary, response.getBody());
-        verify(walletService, times(1)).getWalletSummary(timestamp);
+        verify(walletService, times(1)).getWalletSummary(timestamp, null);
     }
 
     @Test
@@ -0,0 +1,172 @@
+package com.project.cryptowallet.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in for the CoinCap API (and the CoinGecko simple price endpoint) with configurable
+ * latency, error rate and asset count. Assets are named "asset-0".."asset-N" with symbols "A0".."AN".
+ * <ul>
+ *     <li>GET /assets: the symbol to ID list.</li>
+ *     <li>GET /assets/{id}: a price that drifts randomly around 100.</li>
+ *     <li>GET /simple/price?ids={id}&vs_currencies=usd: the same price in CoinGecko's shape.</li>
+ *     <li>GET /rates: fixed USD rates for a few fiat currencies ({@link #FIAT_RATES}).</li>
+ * </ul>
+ */
+public class CoinCapStubServer implements AutoCloseable {
+
+    /**
+     * USD value of one unit of each fiat currency served by /rates.
+     */
+    public static final Map<String, String> FIAT_RATES = Map.of(
+            "EUR", "1.0850000000000000",
+            "GBP", "1.2700000000000000",
+            "JPY", "0.0067000000000000",
+            "CHF", "1.1300000000000000");
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final int assetCount;
+    private final long latencyMillis;
+    private final double errorRate;
+
+    private final AtomicLong assetListCalls = new AtomicLong();
+    private final AtomicLong priceCalls = new AtomicLong();
+    private final AtomicLong rateCalls = new AtomicLong();
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    public CoinCapStubServer(int assetCount, long latencyMillis, double errorRate) throws IOException {
+        this.assetCount = assetCount;
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/assets", this::handleAssets);
+        this.server.createContext("/simple/price", this::handleSimplePrice);
+        this.server.createContext("/rates", this::handleRates);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long getAssetListCalls() {
+        return assetListCalls.get();
+    }
+
+    /**
+     * @return Calls to either price endpoint, including those answered with an injected error.
+     */
+    public long getPriceCalls() {
+        return priceCalls.get();
+    }
+
+    public long getRateCalls() {
+        return rateCalls.get();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    private void handleAssets(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/assets") || path.equals("/assets/")) {
+            assetListCalls.incrementAndGet();
+            StringBuilder body = new StringBuilder("{\"data\":[");
+            for (int i = 0; i < assetCount; i++) {
+                body.append(i == 0 ? "" : ",").append("{\"id\":\"asset-").append(i).append("\",\"symbol\":\"A").append(i).append("\"}");
+            }
+            respond(exchange, 200, body.append("]}").toString());
+            return;
+        }
+
+        priceCalls.incrementAndGet();
+        if (simulateCall(exchange)) {
+            respond(exchange, 200, "{\"data\":{\"id\":\"" + path.substring("/assets/".length()) + "\",\"priceUsd\":\"" + randomPrice() + "\"}}");
+        }
+    }
+
+    private void handleSimplePrice(HttpExchange exchange) throws IOException {
+        priceCalls.incrementAndGet();
+        if (simulateCall(exchange)) {
+            String query = exchange.getRequestURI().getQuery();
+            String id = query.replaceAll(".*ids=([^&]*).*", "$1");
+            respond(exchange, 200, "{\"" + id + "\":{\"usd\":" + randomPrice() + "}}");
+        }
+    }
+
+    /**
+     * Rates get the configured latency but no injected errors: the application only refreshes them every few
+     * minutes, so one failed startup fetch would leave the currency path unavailable for the whole run.
+     */
+    private void handleRates(HttpExchange exchange) throws IOException {
+        rateCalls.incrementAndGet();
+        simulateLatency();
+        StringBuilder body = new StringBuilder("{\"data\":[");
+        boolean first = true;
+        for (Map.Entry<String, String> rate : FIAT_RATES.entrySet()) {
+            body.append(first ? "" : ",").append("{\"id\":\"").append(rate.getKey().toLowerCase(Locale.ROOT))
+                    .append("\",\"symbol\":\"").append(rate.getKey())
+                    .append("\",\"type\":\"fiat\",\"rateUsd\":\"").append(rate.getValue()).append("\"}");
+            first = false;
+        }
+        respond(exchange, 200, body.append("]}").toString());
+    }
+
+    /**
+     * Apply the configured latency and error rate.
+     *
+     * @return false if an error response was already sent.
+     */
+    private boolean simulateCall(HttpExchange exchange) throws IOException {
+        simulateLatency();
+        if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+            injectedErrors.incrementAndGet();
+            respond(exchange, 503, "{\"error\":\"injected\"}");
+            return false;
+        }
+        return true;
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static String randomPrice() {
+        return String.format(Locale.ROOT, "%.6f", 100 + ThreadLocalRandom.current().nextGaussian());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
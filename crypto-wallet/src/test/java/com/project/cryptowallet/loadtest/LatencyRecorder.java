@@ -0,0 +1,59 @@
+package com.project.cryptowallet.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects request latencies (microseconds) for one load phase and reports percentiles.
+ * Latency is measured from the intended send time, so a stalled server is not hidden by
+ * the driver sending less (no coordinated omission).
+ */
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int count;
+    private long errors;
+    private long dropped;
+
+    public synchronized void record(long latencyMicros, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyMicros;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    /**
+     * A request the driver could not send because too many were already in flight.
+     */
+    public synchronized void recordDropped() {
+        dropped++;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized long getErrors() {
+        return errors;
+    }
+
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * @param percentile Between 0 and 100.
+     * @return The latency in milliseconds at the given percentile, or 0 if nothing was recorded.
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))] / 1000.0;
+    }
+}
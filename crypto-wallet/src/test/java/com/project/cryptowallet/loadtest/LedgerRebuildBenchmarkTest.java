@@ -0,0 +1,129 @@
+package com.project.cryptowallet.loadtest;
+
+import com.project.cryptowallet.dto.PositionResponse;
+import com.project.cryptowallet.model.TransactionType;
+import com.project.cryptowallet.repository.HoldingsSnapshotRepository;
+import com.project.cryptowallet.repository.LedgerTransactionRepository;
+import com.project.cryptowallet.service.LedgerServiceImpl;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ledger rebuild benchmark against a seeded H2 ledger: LedgerServiceImpl replays every transaction,
+ * then only the tail after the latest snapshot, both through its keyset-paged queries.
+ * Excluded from the normal build; run with
+ * <pre>
+ *   mvn -Pload-test test -Dtest=LedgerRebuildBenchmarkTest -Dledgerbench.transactions=2000000
+ * </pre>
+ * Settings (system properties, defaults in brackets): ledgerbench.transactions [1000000], ledgerbench.tail [10000],
+ * ledgerbench.page-size [5000].
+ */
+@Tag("load")
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class LedgerRebuildBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LedgerRebuildBenchmarkTest.class);
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final String[] SYMBOLS = {"BTC", "ETH", "SOL", "ADA", "XRP", "DOT", "DOGE", "LTC", "LINK", "AVAX"};
+    private static final int BATCH_SIZE = 10_000;
+
+    private final int transactions = Integer.getInteger("ledgerbench.transactions", 1_000_000);
+    private final int tail = Integer.getInteger("ledgerbench.tail", 10_000);
+    private final int pageSize = Integer.getInteger("ledgerbench.page-size", 5000);
+
+    @Autowired
+    private LedgerTransactionRepository ledgerTransactionRepository;
+
+    @Autowired
+    private HoldingsSnapshotRepository holdingsSnapshotRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Full Replay Against Snapshot Plus Tail")
+    public void testRebuild() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long start = System.nanoTime();
+        seed(jdbc, 0, transactions - tail);
+        LedgerServiceImpl head = service();
+        head.loadPositions();
+        assertTrue(head.takeSnapshot().isPresent());
+        head.stop();
+        seed(jdbc, transactions - tail, transactions);
+        logger.info("Seeded {} ledger transactions and a snapshot in {} ms", transactions, millisSince(start));
+
+        start = System.nanoTime();
+        LedgerServiceImpl fromSnapshot = service();
+        fromSnapshot.loadPositions();
+        long snapshotMillis = millisSince(start);
+
+        holdingsSnapshotRepository.deleteAll();
+        start = System.nanoTime();
+        LedgerServiceImpl fullReplay = service();
+        fullReplay.loadPositions();
+        long fullMillis = millisSince(start);
+
+        logger.info("Rebuild of {} ledger transactions: full replay {} ms, snapshot + {} tail {} ms",
+                transactions, fullMillis, tail, snapshotMillis);
+
+        // The snapshot path restores stored positions, the full replay derives them from every row
+        List<PositionResponse> expected = fullReplay.getHoldings(null).getPositions();
+        List<PositionResponse> actual = fromSnapshot.getHoldings(null).getPositions();
+        assertEquals(SYMBOLS.length, expected.size());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getSymbol(), actual.get(i).getSymbol());
+            assertEquals(0, expected.get(i).getQuantity().compareTo(actual.get(i).getQuantity()));
+            assertEquals(0, expected.get(i).getCostBasis().compareTo(actual.get(i).getCostBasis()));
+            assertEquals(0, expected.get(i).getRealizedPnl().compareTo(actual.get(i).getRealizedPnl()));
+        }
+        fromSnapshot.stop();
+        fullReplay.stop();
+    }
+
+    private LedgerServiceImpl service() {
+        // No snapshot is taken on its own: nothing is recorded through the service
+        return new LedgerServiceImpl(ledgerTransactionRepository, holdingsSnapshotRepository, Long.MAX_VALUE, pageSize);
+    }
+
+    /**
+     * Insert transactions [from, to) in JDBC batches. Per symbol: two buys, then a sell of one unit,
+     * so no position ever goes negative. Execution times follow the IDs.
+     */
+    private static void seed(JdbcTemplate jdbc, int from, int to) {
+        for (int batchStart = from; batchStart < to; batchStart += BATCH_SIZE) {
+            List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+            for (int i = batchStart; i < Math.min(to, batchStart + BATCH_SIZE); i++) {
+                int round = i / SYMBOLS.length;
+                TransactionType type = round % 3 == 2 ? TransactionType.SELL : TransactionType.BUY;
+                rows.add(new Object[]{SYMBOLS[i % SYMBOLS.length], type.name(), BigDecimal.ONE,
+                        BigDecimal.valueOf(100 + round % 50), Timestamp.valueOf(START.plusSeconds(i))});
+            }
+            jdbc.batchUpdate("insert into ledger_transaction (symbol, type, quantity, price, executed_at) values (?, ?, ?, ?, ?)", rows);
+        }
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
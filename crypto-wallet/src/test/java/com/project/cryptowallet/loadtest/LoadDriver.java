@@ -0,0 +1,70 @@
+package com.project.cryptowallet.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+/**
+ * Open-loop load driver: sends requests at a fixed target rate regardless of how fast responses come back,
+ * and records each latency from the moment the request was due.
+ */
+public class LoadDriver {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newFixedThreadPool(16))
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final int maxInFlight;
+
+    public LoadDriver(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Run one phase.
+     *
+     * @param ratePerSecond Target request rate.
+     * @param duration      Phase length.
+     * @param requests      Builds the i-th request.
+     * @return Latencies of all requests sent, once every one has completed.
+     */
+    public LatencyRecorder run(double ratePerSecond, Duration duration, IntFunction<HttpRequest> requests) throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (int i = 0; ; i++) {
+            long due = start + i * intervalNanos;
+            if (due >= end) {
+                break;
+            }
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!inFlight.tryAcquire()) {
+                recorder.recordDropped();
+                continue;
+            }
+            httpClient.sendAsync(requests.apply(i), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+                        recorder.record(latencyMicros, error == null && response.statusCode() < 400);
+                        inFlight.release();
+                    });
+        }
+
+        // Wait for the stragglers
+        inFlight.acquire(maxInFlight);
+        inFlight.release(maxInFlight);
+        return recorder;
+    }
+}
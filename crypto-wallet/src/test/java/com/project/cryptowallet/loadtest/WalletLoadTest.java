@@ -0,0 +1,165 @@
+package com.project.cryptowallet.loadtest;
+
+import com.project.cryptowallet.CryptoWalletApplication;
+import com.project.cryptowallet.service.FxRateService;
+import com.project.cryptowallet.service.FxRatesUnavailableException;
+import com.project.cryptowallet.service.WalletService;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end load test: boots the application against a local CoinCap stub and drives /add, /update,
+ * /summary and /summary?currency=EUR in turn at fixed rates. Excluded from the normal build; run with
+ * <pre>
+ *   mvn -Pload-test test -Dloadtest.duration-seconds=60 -Dloadtest.latency-ms=100
+ * </pre>
+ * Settings (system properties, defaults in brackets): loadtest.duration-seconds [20], loadtest.assets [200],
+ * loadtest.latency-ms [50], loadtest.error-rate [0.01], loadtest.add-rate [50], loadtest.update-rate [2],
+ * loadtest.summary-rate [5], loadtest.max-error-rate [0.01], loadtest.max-p99-ms [0, disabled],
+ * loadtest.admission [false; when true, requests shed by admission control count as errors].
+ */
+@Tag("load")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class WalletLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(WalletLoadTest.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_IN_FLIGHT = 500;
+
+    private final Duration phaseDuration = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 20));
+    private final int assetCount = Integer.getInteger("loadtest.assets", 200);
+    private final long latencyMillis = Long.getLong("loadtest.latency-ms", 50);
+    private final double errorRate = doubleProperty("loadtest.error-rate", 0.01);
+    private final double addRate = doubleProperty("loadtest.add-rate", 50);
+    private final double updateRate = doubleProperty("loadtest.update-rate", 2);
+    private final double summaryRate = doubleProperty("loadtest.summary-rate", 5);
+    private final double maxErrorRate = doubleProperty("loadtest.max-error-rate", 0.01);
+    private final double maxP99Millis = doubleProperty("loadtest.max-p99-ms", 0);
+    private final boolean admission = Boolean.getBoolean("loadtest.admission");
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Add, Update And Summary Under Load")
+    public void testWalletEndpointsUnderLoad() throws Exception {
+        List<String> report = new ArrayList<>();
+        report.add(String.format(Locale.ROOT, "%-11s %9s %7s %8s %10s %9s %9s %9s %14s",
+                "phase", "requests", "errors", "dropped", "req/s", "p50 ms", "p99 ms", "p999 ms", "calls/request"));
+
+        try (CoinCapStubServer stub = new CoinCapStubServer(assetCount, latencyMillis, errorRate);
+             ConfigurableApplicationContext context = startApplication(stub)) {
+            awaitReady(context.getBean(WalletService.class));
+            awaitRates(context.getBean(FxRateService.class));
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/wallet";
+            LoadDriver driver = new LoadDriver(MAX_IN_FLIGHT);
+
+            List<LatencyRecorder> phases = new ArrayList<>();
+            phases.add(runPhase("add", addRate, driver, stub, report, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/add"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "[{\"symbol\":\"A" + (i % assetCount) + "\",\"quantity\":1,\"price\":100}]"))
+                    .build()));
+            phases.add(runPhase("update", updateRate, driver, stub, report, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/update"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build()));
+            phases.add(runPhase("summary", summaryRate, driver, stub, report, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/summary"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build()));
+            phases.add(runPhase("summary-eur", summaryRate, driver, stub, report, i -> HttpRequest.newBuilder(URI.create(baseUrl + "/summary?currency=EUR"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build()));
+
+            logger.info("Load test against stub (assets={}, latency={} ms, error rate={}), {} s per phase:\n{}",
+                    assetCount, latencyMillis, errorRate, phaseDuration.toSeconds(), String.join("\n", report));
+
+            for (LatencyRecorder phase : phases) {
+                assertTrue(phase.getCount() > 0, "No requests completed");
+                double failed = (double) (phase.getErrors() + phase.getDropped()) / (phase.getCount() + phase.getDropped());
+                assertTrue(failed <= maxErrorRate, "Error rate " + failed + " above " + maxErrorRate + "\n" + String.join("\n", report));
+                if (maxP99Millis > 0) {
+                    assertTrue(phase.percentileMillis(99) <= maxP99Millis, "p99 above " + maxP99Millis + " ms\n" + String.join("\n", report));
+                }
+            }
+        }
+    }
+
+    /**
+     * Run one phase and append its report line. Provider calls include background refreshes during the phase.
+     */
+    private LatencyRecorder runPhase(String name, double rate, LoadDriver driver, CoinCapStubServer stub, List<String> report,
+                                     IntFunction<HttpRequest> requests) throws InterruptedException {
+        long callsBefore = stub.getPriceCalls();
+        long start = System.nanoTime();
+        LatencyRecorder recorder = driver.run(rate, phaseDuration, requests);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long calls = stub.getPriceCalls() - callsBefore;
+
+        report.add(String.format(Locale.ROOT, "%-11s %9d %7d %8d %10.1f %9.1f %9.1f %9.1f %14.2f",
+                name, recorder.getCount(), recorder.getErrors(), recorder.getDropped(), recorder.getCount() / seconds,
+                recorder.percentileMillis(50), recorder.percentileMillis(99), recorder.percentileMillis(99.9),
+                recorder.getCount() == 0 ? 0 : (double) calls / recorder.getCount()));
+        return recorder;
+    }
+
+    private ConfigurableApplicationContext startApplication(CoinCapStubServer stub) {
+        // Command-line arguments take precedence over application.properties
+        return new SpringApplicationBuilder(CryptoWalletApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + System.nanoTime(),
+                        "--coincap.api.base-url=" + stub.getBaseUrl(),
+                        "--coingecko.api.base-url=" + stub.getBaseUrl(),
+                        // The stub serves CoinGecko prices under the CoinCap IDs
+                        "--coingecko.ids=" + IntStream.range(0, assetCount)
+                                .mapToObj(i -> "asset-" + i + ":asset-" + i)
+                                .collect(Collectors.joining(",")),
+                        "--price.snapshot.file=",
+                        "--admission.enabled=" + admission,
+                        "--logging.level.com.project.cryptowallet.service=WARN",
+                        "--logging.level.com.project.cryptowallet.controller=WARN");
+    }
+
+    private static void awaitReady(WalletService walletService) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (!walletService.isReady()) {
+            assertTrue(System.nanoTime() < deadline, "Symbol map was not loaded from the stub");
+            Thread.sleep(100);
+        }
+    }
+
+    private static void awaitRates(FxRateService fxRateService) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (true) {
+            try {
+                fxRateService.conversion("EUR");
+                return;
+            } catch (FxRatesUnavailableException e) {
+                assertTrue(System.nanoTime() < deadline, "FX rates were not loaded from the stub");
+                Thread.sleep(100);
+            }
+        }
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
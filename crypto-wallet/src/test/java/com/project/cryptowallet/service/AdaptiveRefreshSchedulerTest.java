@@ -0,0 +1,126 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.RefreshBudget;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AdaptiveRefreshSchedulerTest {
+
+    private RefreshBudget budget;
+    private AdaptiveRefreshScheduler refreshScheduler;
+
+    @BeforeEach
+    public void setup() {
+        // 10s base, 2s..600s bounds, dust below $10, large from $10000, 120 calls per minute
+        budget = new RefreshBudget(120);
+        refreshScheduler = new AdaptiveRefreshScheduler(10, 2, 600,
+                BigDecimal.TEN, BigDecimal.valueOf(10000), 30, budget);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. New Symbols Are Due Immediately")
+    public void testNewSymbolsAreDue() {
+        refreshScheduler.track("BTC", 0);
+        refreshScheduler.track("ETH", 0);
+
+        List<String> due = refreshScheduler.pollDue(0);
+
+        assertEquals(2, due.size());
+        assertTrue(due.containsAll(List.of("BTC", "ETH")));
+        assertTrue(refreshScheduler.pollDue(0).isEmpty(), "In-flight symbols must not be dispatched twice");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Call Budget Limits Dispatch")
+    public void testCallBudget() {
+        refreshScheduler.track("BTC", 0);
+        refreshScheduler.track("ETH", 0);
+        refreshScheduler.track("SOL", 0);
+
+        // The provider clients charge the budget for each dispatched refresh
+        List<String> first = refreshScheduler.pollDue(0);
+        first.forEach(symbol -> budget.consume(0));
+        assertEquals(2, first.size());
+        assertEquals(0, refreshScheduler.pollDue(100).size());
+
+        // Calls made outside the scheduler hold it back as well
+        budget.consume(100);
+        assertEquals(0, refreshScheduler.pollDue(500).size());
+        assertEquals(1, refreshScheduler.pollDue(1000).size());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Volatile Symbols Refresh More Often")
+    public void testVolatilityShortensInterval() {
+        refreshScheduler.completed("BTC", BigDecimal.valueOf(100), BigDecimal.valueOf(1000), 0);
+        refreshScheduler.completed("BTC", BigDecimal.valueOf(110), BigDecimal.valueOf(1000), 10_000);
+        refreshScheduler.completed("ETH", BigDecimal.valueOf(100), BigDecimal.valueOf(1000), 0);
+        refreshScheduler.completed("ETH", BigDecimal.valueOf(100), BigDecimal.valueOf(1000), 10_000);
+
+        assertEquals(10_000, refreshScheduler.getIntervalMillis("ETH"));
+        assertTrue(refreshScheduler.getIntervalMillis("BTC") < refreshScheduler.getIntervalMillis("ETH"));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Dust Refreshes Rarely, Large Positions Often")
+    public void testHoldingValueScalesInterval() {
+        refreshScheduler.completed("DOGE", BigDecimal.valueOf(0.1), BigDecimal.ONE, 0);
+        refreshScheduler.completed("BTC", BigDecimal.valueOf(50000), BigDecimal.valueOf(25000), 0);
+
+        assertEquals(300_000, refreshScheduler.getIntervalMillis("DOGE"));
+        assertEquals(5_000, refreshScheduler.getIntervalMillis("BTC"));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Base Interval Changes Apply Live")
+    public void testSetBaseIntervalReschedules() {
+        refreshScheduler.completed("ETH", BigDecimal.valueOf(100), BigDecimal.valueOf(1000), 0);
+
+        refreshScheduler.setBaseIntervalSeconds(20);
+
+        assertEquals(20_000, refreshScheduler.getIntervalMillis("ETH"));
+        assertTrue(refreshScheduler.pollDue(15_000).isEmpty());
+        assertEquals(List.of("ETH"), refreshScheduler.pollDue(20_000));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Failed Refresh Keeps Interval")
+    public void testFailedRefreshIsRescheduled() {
+        refreshScheduler.track("BTC", 0);
+        assertEquals(List.of("BTC"), refreshScheduler.pollDue(0));
+
+        refreshScheduler.failed("BTC", 1_000);
+
+        assertTrue(refreshScheduler.pollDue(5_000).isEmpty());
+        assertEquals(List.of("BTC"), refreshScheduler.pollDue(11_000));
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Symbols Without Holdings Are Dropped")
+    public void testUntrack() {
+        refreshScheduler.track("BTC", 0);
+        refreshScheduler.track("ETH", 0);
+        refreshScheduler.untrack("ETH");
+
+        assertEquals(List.of("BTC"), refreshScheduler.pollDue(0));
+        assertFalse(refreshScheduler.isTracked("ETH"));
+
+        // A refresh that completes after the last holding was sold drops the symbol too
+        refreshScheduler.completed("BTC", BigDecimal.valueOf(50000), BigDecimal.ZERO, 1_000);
+        assertFalse(refreshScheduler.isTracked("BTC"));
+        assertEquals(-1, refreshScheduler.getIntervalMillis("BTC"));
+        assertTrue(refreshScheduler.pollDue(60_000).isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.cryptowallet.service;
+
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class AlertIndexTest {
+
+    private AlertIndex alertIndex;
+
+    @BeforeEach
+    public void setup() {
+        alertIndex = new AlertIndex();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Upward Move Fires Only Crossed ABOVE Levels")
+    public void testUpwardCrossing() {
+        alertIndex.add(1, "BTC", price(100), null);
+        alertIndex.add(2, "BTC", price(105), null);
+        alertIndex.add(3, "BTC", price(110), null);
+        alertIndex.add(4, "BTC", null, price(95));
+
+        assertEquals(Set.of(1L, 2L), new HashSet<>(alertIndex.crossed("BTC", price(99), price(105))));
+        assertEquals(2, alertIndex.size());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Downward Move Fires Only Crossed BELOW Levels")
+    public void testDownwardCrossing() {
+        alertIndex.add(1, "ETH", null, price(3000));
+        alertIndex.add(2, "ETH", null, price(2900));
+        alertIndex.add(3, "ETH", price(3100), null);
+
+        assertEquals(List.of(1L), alertIndex.crossed("ETH", price(3050), price(2950)));
+        assertTrue(alertIndex.crossed("ETH", price(2950), price(2950)).isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Alerts Fire Exactly Once")
+    public void testFiresOnce() {
+        alertIndex.add(1, "SOL", price(200), null);
+
+        assertEquals(List.of(1L), alertIndex.crossed("SOL", price(190), price(210)));
+        assertTrue(alertIndex.crossed("SOL", price(190), price(210)).isEmpty());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Two-Sided Alert Is Removed From Both Sides")
+    public void testTwoSidedAlert() {
+        alertIndex.add(1, "ADA", price(1.1), price(0.9));
+
+        assertEquals(List.of(1L), alertIndex.crossed("ADA", price(1.0), price(0.85)));
+        assertTrue(alertIndex.crossed("ADA", price(0.85), price(1.2)).isEmpty());
+        assertEquals(0, alertIndex.size());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Removed Alerts Never Fire")
+    public void testRemove() {
+        alertIndex.add(1, "DOT", price(10), null);
+
+        assertTrue(alertIndex.remove(1, "DOT"));
+        assertFalse(alertIndex.remove(1, "DOT"));
+        assertTrue(alertIndex.crossed("DOT", price(5), price(20)).isEmpty());
+    }
+
+    private static BigDecimal price(double value) {
+        return BigDecimal.valueOf(value);
+    }
+}
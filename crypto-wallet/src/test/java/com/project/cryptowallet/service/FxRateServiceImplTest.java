@@ -0,0 +1,66 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.CoinCapClient;
+import com.project.cryptowallet.dto.FxRate;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+public class FxRateServiceImplTest {
+
+    @Mock
+    private CoinCapClient coinCapClient;
+
+    private FxRateServiceImpl fxRateService;
+
+    @BeforeEach
+    public void setup() {
+        fxRateService = new FxRateServiceImpl(coinCapClient, 300);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. USD Needs No Rates")
+    public void testUsdIdentity() {
+        assertSame(CurrencyConversion.USD, fxRateService.conversion(null));
+        assertSame(CurrencyConversion.USD, fxRateService.conversion("usd"));
+        verifyNoInteractions(coinCapClient);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Fiat And Crypto Conversions From One Snapshot")
+    public void testConversions() {
+        when(coinCapClient.fetchRates()).thenReturn(List.of(
+                new FxRate("EUR", "fiat", new BigDecimal("1.25")),
+                new FxRate("BTC", "crypto", new BigDecimal("40000"))));
+        fxRateService.refreshRates();
+
+        assertEquals(new BigDecimal("80.00"), fxRateService.conversion("eur").apply(new BigDecimal("100")));
+        assertEquals(new BigDecimal("0.00250000"), fxRateService.conversion("BTC").apply(new BigDecimal("100")));
+        assertThrows(IllegalArgumentException.class, () -> fxRateService.conversion("XYZ"));
+        verify(coinCapClient, times(1)).fetchRates();
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Rates Unavailable")
+    public void testRatesUnavailable() {
+        // Requests fail fast instead of loading the rates themselves
+        assertThrows(FxRatesUnavailableException.class, () -> fxRateService.conversion("EUR"));
+        verifyNoInteractions(coinCapClient);
+
+        when(coinCapClient.fetchRates()).thenThrow(new RuntimeException("CoinCap down"));
+        assertThrows(RuntimeException.class, fxRateService::refreshRates);
+        assertThrows(FxRatesUnavailableException.class, () -> fxRateService.conversion("EUR"));
+    }
+}
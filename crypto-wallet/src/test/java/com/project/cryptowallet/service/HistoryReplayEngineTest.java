@@ -0,0 +1,178 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.PriceTick;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HistoryReplayEngineTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Replay Merges Symbols In Time Order")
+    public void testReplaySmallHistory() {
+        ListTickSource source = new ListTickSource();
+        source.add("BTC", 1, START.minusHours(1), 100);
+        source.add("BTC", 2, START.plusMinutes(30), 110);
+        source.add("ETH", 3, START.plusHours(1), 10);
+        source.add("BTC", 4, START.plusHours(2), 120);
+
+        HistoryReplayEngine engine = new HistoryReplayEngine(source, pool, 2, 8, 1024);
+        double[] values = engine.replay(Map.of("BTC", BigDecimal.ONE, "ETH", BigDecimal.valueOf(2)), START, 3600, 4);
+
+        // 00:00 BTC seeded at 100; 01:00 BTC 110 + ETH 2*10; 02:00 BTC 120 + ETH 20; 03:00 unchanged
+        assertArrayEquals(new long[]{100, 130, 140, 140}, round(values));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Partitioned Replay Matches Sequential Replay")
+    public void testPartitioningIsTransparent() {
+        ListTickSource source = new ListTickSource();
+        Random random = new Random(42);
+        long id = 0;
+        for (String symbol : List.of("BTC", "ETH", "SOL", "ADA", "DOT")) {
+            for (int minute = 0; minute < 2000; minute += 1 + random.nextInt(20)) {
+                source.add(symbol, ++id, START.plusMinutes(minute), 1 + random.nextInt(1000));
+            }
+        }
+        Map<String, BigDecimal> holdings = Map.of("BTC", BigDecimal.ONE, "ETH", BigDecimal.TEN,
+                "SOL", BigDecimal.valueOf(3), "ADA", BigDecimal.valueOf(100), "DOT", BigDecimal.valueOf(7));
+
+        double[] sequential = new HistoryReplayEngine(source, pool, 1000, 8, 1024).replay(holdings, START, 60, 2000);
+        double[] partitioned = new HistoryReplayEngine(source, pool, 3, 2, 50).replay(holdings, START, 60, 2000);
+
+        assertArrayEquals(round(sequential), round(partitioned));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Year Of 10-Second Ticks Streams In Pages")
+    public void testYearOfTicks() {
+        // About 3.15 million ticks per symbol, generated on demand and never held in memory
+        long ticksPerYear = 365L * 24 * 360;
+        GeneratedTickSource source = new GeneratedTickSource(ticksPerYear);
+        HistoryReplayEngine engine = new HistoryReplayEngine(source, pool, 5000, 1, 30);
+
+        double[] values = engine.replay(Map.of("BTC", BigDecimal.ONE, "ETH", BigDecimal.valueOf(2)), START, 86400, 365);
+
+        for (int day = 0; day < values.length; day++) {
+            // Tick k has price k + 1, and day d starts at tick d * 8640
+            double price = day * 8640L + 1;
+            assertEquals(3 * price, values[day], 1e-6);
+        }
+        assertTrue(source.maxPageSize <= 5000);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Missing Quantities Are Rejected")
+    public void testMissingQuantity() {
+        HistoryReplayEngine engine = new HistoryReplayEngine(new ListTickSource(), pool, 2, 8, 1024);
+        Map<String, BigDecimal> holdings = new HashMap<>();
+        holdings.put("BTC", null);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.replay(holdings, START, 3600, 4));
+    }
+
+    private static long[] round(double[] values) {
+        return Arrays.stream(values).mapToLong(Math::round).toArray();
+    }
+
+    private static PriceTick tick(long id, LocalDateTime time, double price) {
+        BigDecimal value = BigDecimal.valueOf(price);
+        return new PriceTick() {
+            public Long getId() { return id; }
+            public BigDecimal getPrice() { return value; }
+            public LocalDateTime getUpdatedAt() { return time; }
+        };
+    }
+
+    private static final class ListTickSource implements HistoryReplayEngine.TickSource {
+
+        private final Map<String, List<PriceTick>> ticks = new HashMap<>();
+
+        void add(String symbol, long id, LocalDateTime time, double price) {
+            ticks.computeIfAbsent(symbol, s -> new ArrayList<>()).add(tick(id, time, price));
+        }
+
+        @Override
+        public List<PriceTick> nextPage(String symbol, LocalDateTime after, long afterId, LocalDateTime until, int limit) {
+            return ticks.getOrDefault(symbol, List.of()).stream()
+                    .filter(t -> t.getUpdatedAt().isAfter(after) || (t.getUpdatedAt().equals(after) && t.getId() > afterId))
+                    .filter(t -> !t.getUpdatedAt().isAfter(until))
+                    .sorted(Comparator.comparing(PriceTick::getUpdatedAt).thenComparing(PriceTick::getId))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public BigDecimal priceAtOrBefore(String symbol, LocalDateTime at) {
+            return ticks.getOrDefault(symbol, List.of()).stream()
+                    .filter(t -> !t.getUpdatedAt().isAfter(at))
+                    .max(Comparator.comparing(PriceTick::getUpdatedAt).thenComparing(PriceTick::getId))
+                    .map(PriceTick::getPrice)
+                    .orElse(null);
+        }
+    }
+
+    /**
+     * One tick every 10 seconds from START for every symbol; tick k has id k and price k + 1.
+     */
+    private static final class GeneratedTickSource implements HistoryReplayEngine.TickSource {
+
+        private final long count;
+        private volatile int maxPageSize;
+
+        private GeneratedTickSource(long count) {
+            this.count = count;
+        }
+
+        @Override
+        public List<PriceTick> nextPage(String symbol, LocalDateTime after, long afterId, LocalDateTime until, int limit) {
+            long first = Math.max(0, java.time.Duration.between(START, after).getSeconds() / 10);
+            while (first < count && !isAfter(first, after, afterId)) {
+                first++;
+            }
+            List<PriceTick> page = new ArrayList<>(limit);
+            for (long k = first; k < count && page.size() < limit; k++) {
+                LocalDateTime time = START.plusSeconds(k * 10);
+                if (time.isAfter(until)) {
+                    break;
+                }
+                page.add(tick(k, time, k + 1));
+            }
+            maxPageSize = Math.max(maxPageSize, page.size());
+            return page;
+        }
+
+        private boolean isAfter(long k, LocalDateTime after, long afterId) {
+            LocalDateTime time = START.plusSeconds(k * 10);
+            return time.isAfter(after) || (time.equals(after) && k > afterId);
+        }
+
+        @Override
+        public BigDecimal priceAtOrBefore(String symbol, LocalDateTime at) {
+            if (at.isBefore(START)) {
+                return null;
+            }
+            long k = Math.min(count - 1, java.time.Duration.between(START, at).getSeconds() / 10);
+            return BigDecimal.valueOf(k + 1);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.CoinCapClient;
+import com.project.cryptowallet.dto.FxRate;
+import com.project.cryptowallet.dto.HistoryQuery;
+import com.project.cryptowallet.dto.PriceTick;
+import com.project.cryptowallet.repository.WalletAssetHistoryRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+public class HistoryServiceImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private WalletAssetHistoryRepository walletAssetHistoryRepository;
+
+    @Mock
+    private CoinCapClient coinCapClient;
+
+    private FxRateServiceImpl fxRateService;
+    private HistoryServiceImpl historyService;
+
+    @BeforeEach
+    public void setup() {
+        fxRateService = new FxRateServiceImpl(coinCapClient, 300);
+        historyService = new HistoryServiceImpl(walletAssetHistoryRepository, fxRateService, 2);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Range Defaults And Validation")
+    public void testResolve() {
+        HistoryQuery query = historyService.resolve(" btc ", null, START, null);
+
+        assertEquals("BTC", query.getSymbol());
+        assertEquals(START.minusDays(1), query.getFrom());
+        assertThrows(IllegalArgumentException.class, () -> historyService.resolve("", null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> historyService.resolve("BTC", START, START.minusSeconds(1), null));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. History Is Read In Keyset Pages")
+    public void testWriteHistoryPages() throws IOException {
+        HistoryQuery query = new HistoryQuery("BTC", START, START.plusHours(1));
+        List<PriceTick> firstPage = List.of(tick(1, START, "100.00"), tick(2, START.plusMinutes(1), "101.00"));
+        List<PriceTick> lastPage = List.of(tick(3, START.plusMinutes(2), "102.00"));
+        when(walletAssetHistoryRepository.findTicksAfter(eq("BTC"), eq(START), eq(-1L), any(), any(Limit.class))).thenReturn(firstPage);
+        when(walletAssetHistoryRepository.findTicksAfter(eq("BTC"), eq(START.plusMinutes(1)), eq(2L), any(), any(Limit.class))).thenReturn(lastPage);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        historyService.writeHistory(query, TickSeriesWriter.json(out));
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"price\":102.00"), json);
+        verify(walletAssetHistoryRepository, times(2)).findTicksAfter(anyString(), any(), anyLong(), any(), any(Limit.class));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. CSV Export Streams And Closes The Cursor")
+    public void testExportCsv() throws IOException {
+        HistoryQuery query = new HistoryQuery("ETH", START, START.plusHours(1));
+        AtomicBoolean closed = new AtomicBoolean();
+        when(walletAssetHistoryRepository.streamTicks("ETH", START, START.plusHours(1)))
+                .thenReturn(Stream.of(tick(1, START, "3000.50"), tick(2, START.plusMinutes(1), "3001.00"))
+                        .onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        historyService.exportCsv(query, out);
+
+        assertEquals("symbol,updated_at,price\n" +
+                "ETH,2024-01-01T00:00,3000.50\n" +
+                "ETH,2024-01-01T00:01,3001.00\n", out.toString(StandardCharsets.UTF_8));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Prices Are Converted To The Requested Currency")
+    public void testExportCsvInEur() throws IOException {
+        when(coinCapClient.fetchRates()).thenReturn(List.of(new FxRate("EUR", "fiat", new BigDecimal("1.25"))));
+        fxRateService.refreshRates();
+        HistoryQuery query = historyService.resolve("eth", START, START.plusHours(1), "eur");
+        when(walletAssetHistoryRepository.streamTicks("ETH", START, START.plusHours(1)))
+                .thenReturn(Stream.of(tick(1, START, "3000.50")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        historyService.exportCsv(query, out);
+
+        assertEquals("EUR", query.getCurrency());
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("ETH,2024-01-01T00:00,2400.40\n"));
+        assertThrows(IllegalArgumentException.class, () -> historyService.resolve("ETH", null, null, "XYZ"));
+    }
+
+    private static PriceTick tick(long id, LocalDateTime time, String price) {
+        BigDecimal value = new BigDecimal(price);
+        return new PriceTick() {
+            public Long getId() { return id; }
+            public BigDecimal getPrice() { return value; }
+            public LocalDateTime getUpdatedAt() { return time; }
+        };
+    }
+}
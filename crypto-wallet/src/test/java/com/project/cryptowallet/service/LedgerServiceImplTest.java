@@ -0,0 +1,201 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.HoldingsResponse;
+import com.project.cryptowallet.dto.PositionResponse;
+import com.project.cryptowallet.dto.TransactionRequest;
+import com.project.cryptowallet.model.HoldingsSnapshot;
+import com.project.cryptowallet.model.LedgerTransaction;
+import com.project.cryptowallet.model.SnapshotPosition;
+import com.project.cryptowallet.model.TransactionType;
+import com.project.cryptowallet.repository.HoldingsSnapshotRepository;
+import com.project.cryptowallet.repository.LedgerTransactionRepository;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ExtendWith(MockitoExtension.class)
+public class LedgerServiceImplTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private LedgerTransactionRepository ledgerTransactionRepository;
+
+    @Mock
+    private HoldingsSnapshotRepository holdingsSnapshotRepository;
+
+    private LedgerServiceImpl ledgerService;
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    @BeforeEach
+    public void setup() {
+        ledgerService = new LedgerServiceImpl(ledgerTransactionRepository, holdingsSnapshotRepository, 3, 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ledgerService.stop();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Recorded Transactions Update Current Holdings")
+    public void testRecordTransactions() {
+        stubSaveAll();
+
+        List<LedgerTransaction> saved = ledgerService.recordTransactions(List.of(
+                new TransactionRequest("btc", TransactionType.BUY, new BigDecimal("2"), new BigDecimal("100"), START),
+                new TransactionRequest("BTC", TransactionType.SELL, new BigDecimal("1"), new BigDecimal("150"), START.plusMinutes(1))));
+
+        assertEquals(2, saved.size());
+        assertEquals("BTC", saved.get(0).getSymbol());
+        PositionResponse btc = ledgerService.getHoldings(null).getPositions().get(0);
+        assertEquals(0, BigDecimal.ONE.compareTo(btc.getQuantity()));
+        assertEquals(0, new BigDecimal("100").compareTo(btc.getCostBasis()));
+        assertEquals(0, new BigDecimal("50").compareTo(btc.getRealizedPnl()));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. An Invalid Batch Records Nothing")
+    public void testRejectedBatch() {
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of(
+                new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("100"), START),
+                new TransactionRequest("BTC", TransactionType.SELL, new BigDecimal("2"), new BigDecimal("100"), START))));
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of(
+                new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("100"), START),
+                new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("100"), START.minusSeconds(1)))));
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of(
+                new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, null, START))));
+
+        verify(ledgerTransactionRepository, never()).saveAll(anyList());
+        assertTrue(ledgerService.getHoldings(null).getPositions().isEmpty());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. As-Of Holdings Start From The Latest Snapshot")
+    public void testHoldingsAsOf() {
+        LocalDateTime asOf = START.plusDays(1);
+        when(holdingsSnapshotRepository.findFirstByAsOfLessThanEqualOrderByLastTransactionIdDesc(asOf))
+                .thenReturn(Optional.of(snapshot(10L, START, new SnapshotPosition("BTC", BigDecimal.ONE, new BigDecimal("100"), BigDecimal.ZERO))));
+        when(ledgerTransactionRepository.findByIdGreaterThanAndExecutedAtLessThanEqualOrderByIdAsc(eq(10L), eq(asOf), any(Limit.class)))
+                .thenReturn(List.of(transaction(11L, TransactionType.BUY, BigDecimal.ONE, new BigDecimal("300"), START.plusHours(1))));
+
+        HoldingsResponse holdings = ledgerService.getHoldings(asOf);
+
+        assertEquals(START, holdings.getSnapshotAsOf());
+        assertEquals(1, holdings.getReplayedTransactions());
+        PositionResponse btc = holdings.getPositions().get(0);
+        assertEquals(0, new BigDecimal("2").compareTo(btc.getQuantity()));
+        assertEquals(0, new BigDecimal("200").compareTo(btc.getAverageCost()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. A Snapshot Is Taken Every N Transactions")
+    public void testSnapshotEveryN() {
+        stubSaveAll();
+        when(holdingsSnapshotRepository.save(any(HoldingsSnapshot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TransactionRequest> buys = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            buys.add(new TransactionRequest("ETH", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("1000"), START.plusMinutes(i)));
+        }
+        ledgerService.recordTransactions(buys);
+
+        ArgumentCaptor<HoldingsSnapshot> captor = ArgumentCaptor.forClass(HoldingsSnapshot.class);
+        verify(holdingsSnapshotRepository, timeout(1000)).save(captor.capture());
+        assertEquals(3L, captor.getValue().getLastTransactionId());
+        assertEquals(START.plusMinutes(2), captor.getValue().getAsOf());
+        assertEquals(0, new BigDecimal("3").compareTo(captor.getValue().getPositions().get(0).getQuantity()));
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Startup Replays Only The Tail After The Snapshot")
+    public void testLoadPositions() {
+        when(holdingsSnapshotRepository.findFirstByOrderByLastTransactionIdDesc())
+                .thenReturn(Optional.of(snapshot(10L, START, new SnapshotPosition("BTC", new BigDecimal("2"), new BigDecimal("200"), BigDecimal.ZERO))));
+        when(ledgerTransactionRepository.findByIdGreaterThanOrderByIdAsc(eq(10L), any(Limit.class))).thenReturn(List.of(
+                transaction(11L, TransactionType.SELL, BigDecimal.ONE, new BigDecimal("150"), START.plusMinutes(1)),
+                transaction(12L, TransactionType.TRANSFER_OUT, BigDecimal.ONE, null, START.plusMinutes(2))));
+        when(ledgerTransactionRepository.findByIdGreaterThanOrderByIdAsc(eq(12L), any(Limit.class))).thenReturn(List.of());
+
+        ledgerService.loadPositions();
+
+        PositionResponse btc = ledgerService.getHoldings(null).getPositions().get(0);
+        assertEquals(0, BigDecimal.ZERO.compareTo(btc.getQuantity()));
+        assertEquals(0, new BigDecimal("50").compareTo(btc.getRealizedPnl()));
+        // Nothing may be recorded before the last replayed transaction
+        assertThrows(IllegalArgumentException.class, () -> ledgerService.recordTransactions(List.of(
+                new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("100"), START))));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Reads Do Not Wait For A Batch Being Saved")
+    public void testReadsDuringSave() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(ledgerTransactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saving.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            List<LedgerTransaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> ReflectionTestUtils.setField(transaction, "id", nextId.getAndIncrement()));
+            return transactions;
+        });
+
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<List<LedgerTransaction>> recording = pool.submit(() -> ledgerService.recordTransactions(List.of(
+                    new TransactionRequest("BTC", TransactionType.BUY, BigDecimal.ONE, new BigDecimal("100"), START))));
+            assertTrue(saving.await(5, TimeUnit.SECONDS));
+
+            // The batch is not committed yet, so the previous holdings are served without blocking
+            assertTrue(ledgerService.getHoldings(null).getPositions().isEmpty());
+
+            release.countDown();
+            assertEquals(1, recording.get(5, TimeUnit.SECONDS).size());
+        } finally {
+            release.countDown();
+            pool.shutdownNow();
+        }
+        assertEquals(1, ledgerService.getHoldings(null).getPositions().size());
+    }
+
+    private void stubSaveAll() {
+        when(ledgerTransactionRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<LedgerTransaction> transactions = invocation.getArgument(0);
+            transactions.forEach(transaction -> ReflectionTestUtils.setField(transaction, "id", nextId.getAndIncrement()));
+            return transactions;
+        });
+    }
+
+    private static LedgerTransaction transaction(long id, TransactionType type, BigDecimal quantity, BigDecimal price, LocalDateTime executedAt) {
+        LedgerTransaction transaction = new LedgerTransaction("BTC", type, quantity, price, executedAt);
+        ReflectionTestUtils.setField(transaction, "id", id);
+        return transaction;
+    }
+
+    private static HoldingsSnapshot snapshot(long lastTransactionId, LocalDateTime asOf, SnapshotPosition... positions) {
+        return new HoldingsSnapshot(lastTransactionId, asOf, new ArrayList<>(List.of(positions)));
+    }
+}
@@ -0,0 +1,75 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.model.TransactionType;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PositionsTest {
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Average Cost And Realized P&L")
+    public void testAverageCost() {
+        Positions positions = new Positions();
+        positions.apply(TransactionType.BUY, "BTC", new BigDecimal("1"), new BigDecimal("100"));
+        positions.apply(TransactionType.BUY, "BTC", new BigDecimal("1"), new BigDecimal("200"));
+        positions.apply(TransactionType.SELL, "BTC", new BigDecimal("0.5"), new BigDecimal("300"));
+
+        Positions.Position btc = positions.get("BTC");
+        assertEquals(0, new BigDecimal("1.5").compareTo(btc.getQuantity()));
+        assertEquals(0, new BigDecimal("225").compareTo(btc.getCostBasis()));
+        assertEquals(0, new BigDecimal("150").compareTo(btc.getAverageCost()));
+        assertEquals(0, new BigDecimal("75").compareTo(btc.getRealizedPnl()));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Transfers Move Cost Basis Without Realizing P&L")
+    public void testTransfers() {
+        Positions positions = new Positions();
+        positions.apply(TransactionType.TRANSFER_IN, "ETH", new BigDecimal("4"), new BigDecimal("1000"));
+        positions.apply(TransactionType.TRANSFER_IN, "ETH", new BigDecimal("4"), null);
+        positions.apply(TransactionType.TRANSFER_OUT, "ETH", new BigDecimal("2"), null);
+
+        Positions.Position eth = positions.get("ETH");
+        assertEquals(0, new BigDecimal("6").compareTo(eth.getQuantity()));
+        assertEquals(0, new BigDecimal("3000").compareTo(eth.getCostBasis()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(eth.getRealizedPnl()));
+
+        positions.apply(TransactionType.TRANSFER_OUT, "ETH", new BigDecimal("6"), null);
+        assertEquals(0, BigDecimal.ZERO.compareTo(eth.getCostBasis()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(eth.getAverageCost()));
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Overselling Is Rejected")
+    public void testOversell() {
+        Positions positions = new Positions();
+        positions.apply(TransactionType.BUY, "SOL", new BigDecimal("1"), new BigDecimal("20"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> positions.apply(TransactionType.SELL, "SOL", new BigDecimal("1.1"), new BigDecimal("25")));
+        assertThrows(IllegalArgumentException.class,
+                () -> positions.apply(TransactionType.TRANSFER_OUT, "ADA", BigDecimal.ONE, null));
+        assertNull(positions.get("ADA"));
+        assertEquals(0, BigDecimal.ONE.compareTo(positions.get("SOL").getQuantity()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Copies Are Independent")
+    public void testCopy() {
+        Positions positions = new Positions();
+        positions.apply(TransactionType.BUY, "BTC", BigDecimal.ONE, new BigDecimal("100"));
+        Positions copy = positions.copy();
+        copy.apply(TransactionType.SELL, "BTC", BigDecimal.ONE, new BigDecimal("120"));
+
+        assertEquals(0, BigDecimal.ONE.compareTo(positions.get("BTC").getQuantity()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(copy.get("BTC").getQuantity()));
+    }
+}
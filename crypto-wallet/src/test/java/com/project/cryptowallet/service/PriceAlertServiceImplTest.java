@@ -0,0 +1,236 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.alert.AlertDispatcher;
+import com.project.cryptowallet.alert.AlertSink;
+import com.project.cryptowallet.dto.AlertNotification;
+import com.project.cryptowallet.dto.AlertRequest;
+import com.project.cryptowallet.dto.SymbolPrice;
+import com.project.cryptowallet.model.AlertStatus;
+import com.project.cryptowallet.model.AlertType;
+import com.project.cryptowallet.model.PriceAlert;
+import com.project.cryptowallet.repository.PriceAlertRepository;
+import com.project.cryptowallet.repository.WalletAssetRepository;
+import org.junit.jupiter.api.*;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class PriceAlertServiceImplTest {
+
+    @Mock
+    private PriceAlertRepository priceAlertRepository;
+
+    @Mock
+    private WalletAssetRepository walletAssetRepository;
+
+    @Mock
+    private AlertSink alertSink;
+
+    private AlertDispatcher alertDispatcher;
+
+    private PriceAlertServiceImpl priceAlertService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(alertSink.getName()).thenReturn("mock");
+        alertDispatcher = new AlertDispatcher(List.of(alertSink));
+        priceAlertService = new PriceAlertServiceImpl(priceAlertRepository, walletAssetRepository, alertDispatcher, 60);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        priceAlertService.stop();
+        alertDispatcher.stop();
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Crossing Fires And Delivers Once")
+    public void testCrossingDeliversOnce() throws Exception {
+        PriceAlert alert = savedAlert(1L, new PriceAlert("BTC", AlertType.ABOVE, BigDecimal.valueOf(50000), null, null));
+        when(priceAlertRepository.saveAll(anyList())).thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(eq(1L), any(), any())).thenReturn(1, 0);
+
+        priceAlertService.createAlerts(List.of(new AlertRequest("BTC", AlertType.ABOVE, BigDecimal.valueOf(50000), null)));
+        priceAlertService.onPriceUpdate("BTC", BigDecimal.valueOf(49000));
+        priceAlertService.onPriceUpdate("BTC", BigDecimal.valueOf(51000));
+        priceAlertService.onPriceUpdate("BTC", BigDecimal.valueOf(49000));
+        priceAlertService.onPriceUpdate("BTC", BigDecimal.valueOf(52000));
+
+        verify(alertSink, timeout(1000).times(1)).deliver(any(AlertNotification.class));
+        verify(priceAlertRepository, times(1)).markTriggered(eq(1L), eq(BigDecimal.valueOf(51000)), any());
+        verify(priceAlertRepository, timeout(1000).times(1)).markDelivered(1L);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Already Triggered Alert Is Not Delivered")
+    public void testAlreadyTriggeredIsSkipped() throws Exception {
+        PriceAlert alert = savedAlert(2L, new PriceAlert("ETH", AlertType.BELOW, BigDecimal.valueOf(3000), null, null));
+        when(priceAlertRepository.saveAll(anyList())).thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(eq(2L), any(), any())).thenReturn(0);
+
+        priceAlertService.createAlerts(List.of(new AlertRequest("ETH", AlertType.BELOW, BigDecimal.valueOf(3000), null)));
+        priceAlertService.onPriceUpdate("ETH", BigDecimal.valueOf(3100));
+        priceAlertService.onPriceUpdate("ETH", BigDecimal.valueOf(2900));
+
+        verify(priceAlertRepository, timeout(1000)).markTriggered(eq(2L), any(), any());
+        verify(alertSink, after(200).never()).deliver(any());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Percent Move Requires A Reference Price")
+    public void testPercentMoveValidation() {
+        List<AlertRequest> requests = List.of(new AlertRequest("SOL", AlertType.PERCENT_MOVE, null, BigDecimal.TEN));
+
+        assertThrows(IllegalArgumentException.class, () -> priceAlertService.createAlerts(requests));
+
+        when(priceAlertRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<PriceAlert> alerts = invocation.getArgument(0);
+            alerts.forEach(alert -> savedAlert(3L, alert));
+            return alerts;
+        });
+        priceAlertService.onPriceUpdate("SOL", BigDecimal.valueOf(100));
+        PriceAlert alert = priceAlertService.createAlerts(requests).get(0);
+
+        assertEquals(0, BigDecimal.valueOf(110).compareTo(alert.getUpperLevel()));
+        assertEquals(0, BigDecimal.valueOf(90).compareTo(alert.getLowerLevel()));
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Undelivered Alerts Stay In The Outbox Until Redelivered")
+    public void testRedelivery() throws Exception {
+        PriceAlert alert = savedAlert(4L, new PriceAlert("ADA", AlertType.ABOVE, BigDecimal.ONE, null, null));
+        when(priceAlertRepository.saveAll(anyList())).thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(eq(4L), any(), any())).thenReturn(1);
+        doThrow(new RuntimeException("sink down")).when(alertSink).deliver(any());
+
+        priceAlertService.createAlerts(List.of(new AlertRequest("ADA", AlertType.ABOVE, BigDecimal.ONE, null)));
+        priceAlertService.onPriceUpdate("ADA", BigDecimal.valueOf(0.9));
+        priceAlertService.onPriceUpdate("ADA", BigDecimal.valueOf(1.1));
+
+        verify(alertSink, timeout(3000).times(3)).deliver(any());
+        verify(priceAlertRepository, after(200).never()).markDelivered(anyLong());
+        verify(priceAlertRepository, never()).recordDeliveredSinks(anyLong(), anyString());
+
+        // The sink recovers; the sweep finds the alert still TRIGGERED and delivers it
+        ReflectionTestUtils.setField(alert, "status", AlertStatus.TRIGGERED);
+        ReflectionTestUtils.setField(alert, "triggeredPrice", BigDecimal.valueOf(1.1));
+        ReflectionTestUtils.setField(alert, "triggeredAt", LocalDateTime.now());
+        when(priceAlertRepository.findByStatus(AlertStatus.TRIGGERED)).thenReturn(List.of(alert));
+        doNothing().when(alertSink).deliver(any());
+
+        priceAlertService.redeliverPending();
+
+        // The sweep runs on the calling thread
+        verify(priceAlertRepository).markDelivered(4L);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Crossings Across A Restart Fire From Stored Prices")
+    public void testSeededLastPrices() throws Exception {
+        PriceAlert alert = savedAlert(5L, new PriceAlert("BTC", AlertType.ABOVE, BigDecimal.valueOf(50000), null, null));
+        when(priceAlertRepository.findByStatus(AlertStatus.ACTIVE)).thenReturn(List.of(alert));
+        when(walletAssetRepository.findLatestPrices()).thenReturn(List.of(price("BTC", BigDecimal.valueOf(49000))));
+        when(priceAlertRepository.markTriggered(eq(5L), any(), any())).thenReturn(1);
+
+        priceAlertService.loadActiveAlerts();
+        priceAlertService.onPriceUpdate("BTC", BigDecimal.valueOf(51000));
+
+        verify(priceAlertRepository, timeout(1000)).markTriggered(eq(5L), eq(BigDecimal.valueOf(51000)), any());
+        verify(alertSink, timeout(1000)).deliver(any(AlertNotification.class));
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Redelivery Skips Sinks That Already Accepted The Alert")
+    public void testPerSinkRedelivery() throws Exception {
+        AlertSink webhook = mock(AlertSink.class);
+        when(webhook.getName()).thenReturn("webhook");
+        doThrow(new RuntimeException("webhook down")).when(webhook).deliver(any());
+        alertDispatcher.stop();
+        alertDispatcher = new AlertDispatcher(List.of(alertSink, webhook));
+        priceAlertService = new PriceAlertServiceImpl(priceAlertRepository, walletAssetRepository, alertDispatcher, 60);
+
+        PriceAlert first = triggeredAlert(6L, null);
+        PriceAlert second = triggeredAlert(7L, null);
+        when(priceAlertRepository.findByStatus(AlertStatus.TRIGGERED)).thenReturn(List.of(first, second));
+
+        priceAlertService.redeliverPending();
+
+        // One attempt per sweep, and the failing webhook is not asked again for the second alert
+        verify(webhook, times(1)).deliver(any());
+        verify(alertSink, times(2)).deliver(any());
+        verify(priceAlertRepository).recordDeliveredSinks(6L, "mock");
+        verify(priceAlertRepository).recordDeliveredSinks(7L, "mock");
+        verify(priceAlertRepository, never()).markDelivered(anyLong());
+
+        // The webhook recovers: only it gets the alert
+        ReflectionTestUtils.setField(first, "deliveredSinks", "mock");
+        when(priceAlertRepository.findByStatus(AlertStatus.TRIGGERED)).thenReturn(List.of(first));
+        doNothing().when(webhook).deliver(any());
+        clearInvocations(alertSink);
+
+        priceAlertService.redeliverPending();
+
+        verify(webhook, times(2)).deliver(any());
+        verify(alertSink, never()).deliver(any());
+        verify(priceAlertRepository).markDelivered(6L);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Alerts Are Marked Fired Before The Update Returns")
+    public void testFiredBeforeReturn() throws Exception {
+        PriceAlert alert = savedAlert(8L, new PriceAlert("DOT", AlertType.ABOVE, BigDecimal.TEN, null, null));
+        when(priceAlertRepository.saveAll(anyList())).thenReturn(List.of(alert));
+        when(priceAlertRepository.markTriggered(eq(8L), any(), any()))
+                .thenThrow(new RuntimeException("database down"))
+                .thenReturn(1);
+
+        priceAlertService.createAlerts(List.of(new AlertRequest("DOT", AlertType.ABOVE, BigDecimal.TEN, null)));
+        priceAlertService.onPriceUpdate("DOT", BigDecimal.valueOf(9));
+        // The failure reaches the caller, which then does not store the price
+        assertThrows(RuntimeException.class, () -> priceAlertService.onPriceUpdate("DOT", BigDecimal.valueOf(11)));
+        verify(alertSink, after(200).never()).deliver(any());
+
+        // The crossing is detected again on the next update
+        priceAlertService.onPriceUpdate("DOT", BigDecimal.valueOf(12));
+        verify(priceAlertRepository).markTriggered(eq(8L), eq(BigDecimal.valueOf(12)), any());
+        verify(alertSink, timeout(1000)).deliver(any(AlertNotification.class));
+    }
+
+    private static PriceAlert triggeredAlert(Long id, String deliveredSinks) {
+        PriceAlert alert = savedAlert(id, new PriceAlert("BTC", AlertType.ABOVE, BigDecimal.valueOf(50000), null, null));
+        ReflectionTestUtils.setField(alert, "status", AlertStatus.TRIGGERED);
+        ReflectionTestUtils.setField(alert, "triggeredPrice", BigDecimal.valueOf(51000));
+        ReflectionTestUtils.setField(alert, "triggeredAt", LocalDateTime.now());
+        ReflectionTestUtils.setField(alert, "deliveredSinks", deliveredSinks);
+        return alert;
+    }
+
+    private static SymbolPrice price(String symbol, BigDecimal price) {
+        return new SymbolPrice() {
+            public String getSymbol() { return symbol; }
+            public BigDecimal getPrice() { return price; }
+        };
+    }
+
+    private static PriceAlert savedAlert(Long id, PriceAlert alert) {
+        ReflectionTestUtils.setField(alert, "id", id);
+        return alert;
+    }
+}
@@ -0,0 +1,190 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.dto.AnalyticsResponse;
+import com.project.cryptowallet.dto.SeriesMetrics;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class RiskAnalyticsServiceImplTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+
+    private RiskAnalyticsServiceImpl riskAnalyticsService;
+
+    @BeforeEach
+    public void setup() {
+        riskAnalyticsService = new RiskAnalyticsServiceImpl(5, 20);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Returns, High/Low And Drawdown")
+    public void testWindowedMetrics() {
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(100), 0);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(120), 30 * MINUTE);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(90), HOUR);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(99), 2 * HOUR);
+
+        SeriesMetrics metrics = riskAnalyticsService.getSymbolMetrics("BTC").orElseThrow();
+
+        assertEquals(99, metrics.getLevel(), 1e-9);
+        assertEquals(120, metrics.getHigh24h(), 1e-9);
+        assertEquals(90, metrics.getLow24h(), 1e-9);
+        assertEquals(0.25, metrics.getMaxDrawdown(), 1e-9);
+        assertEquals(99.0 / 90 - 1, metrics.getReturn1h(), 1e-9);
+        assertNull(metrics.getReturn24h(), "Not enough history for a 24h return");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. 24h High Expires From The Window")
+    public void testHighExpires() {
+        riskAnalyticsService.recordPrice("ETH", BigDecimal.valueOf(5000), 0);
+        riskAnalyticsService.recordPrice("ETH", BigDecimal.valueOf(3000), HOUR);
+        riskAnalyticsService.recordPrice("ETH", BigDecimal.valueOf(3100), 25 * HOUR);
+
+        SeriesMetrics metrics = riskAnalyticsService.getSymbolMetrics("ETH").orElseThrow();
+
+        assertEquals(3100, metrics.getHigh24h(), 1e-9);
+        assertEquals(3000, metrics.getLow24h(), 1e-9);
+        assertEquals(3100.0 / 3000 - 1, metrics.getReturn24h(), 1e-9);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Rolling Volatility Matches Direct Calculation")
+    public void testRollingVolatility() {
+        double[] prices = {100, 101, 99, 104, 103, 108, 100, 102};
+        for (int i = 0; i < prices.length; i++) {
+            riskAnalyticsService.recordPrice("SOL", BigDecimal.valueOf(prices[i]), i * MINUTE);
+        }
+
+        // Window of 5 returns: the last five log returns
+        double[] returns = new double[5];
+        for (int i = 0; i < 5; i++) {
+            returns[i] = Math.log(prices[prices.length - 5 + i] / prices[prices.length - 6 + i]);
+        }
+        double mean = 0;
+        for (double r : returns) {
+            mean += r / returns.length;
+        }
+        double variance = 0;
+        for (double r : returns) {
+            variance += (r - mean) * (r - mean) / (returns.length - 1);
+        }
+
+        assertEquals(Math.sqrt(variance), riskAnalyticsService.getSymbolMetrics("SOL").orElseThrow().getVolatility(), 1e-12);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Correlation Of One-Minute Returns")
+    public void testCorrelation() {
+        double btc = 100;
+        double eth = 50;
+        double ada = 1;
+        for (int minute = 0; minute < 30; minute++) {
+            double move = minute % 2 == 0 ? 1.01 : 0.98;
+            btc *= move;
+            eth *= move;
+            ada /= move;
+            long time = minute * MINUTE;
+            riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(btc), time);
+            riskAnalyticsService.recordPrice("ETH", BigDecimal.valueOf(eth), time);
+            riskAnalyticsService.recordPrice("ADA", BigDecimal.valueOf(ada), time);
+        }
+
+        AnalyticsResponse analytics = riskAnalyticsService.getAnalytics();
+
+        assertEquals(1.0, analytics.getCorrelations().get("BTC").get("ETH"), 1e-6);
+        assertEquals(-1.0, analytics.getCorrelations().get("BTC").get("ADA"), 1e-3);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. Deposits Do Not Count As Wallet Returns")
+    public void testWalletIndex() {
+        riskAnalyticsService.updateQuantity("BTC", BigDecimal.ONE);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(100), 0);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(110), MINUTE);
+
+        riskAnalyticsService.updateQuantity("BTC", BigDecimal.valueOf(3));
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(110), 2 * MINUTE);
+
+        AnalyticsResponse analytics = riskAnalyticsService.getAnalytics();
+
+        assertEquals(new BigDecimal("330.00"), analytics.getWalletValue());
+        assertEquals(1.1, analytics.getWallet().getLevel(), 1e-9);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Intra-Minute Extremes Count Towards 24h High/Low")
+    public void testIntraMinuteExtremes() {
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(100), 0);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(130), 10_000);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(80), 20_000);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(100), 50_000);
+        riskAnalyticsService.recordPrice("BTC", BigDecimal.valueOf(105), MINUTE);
+
+        SeriesMetrics metrics = riskAnalyticsService.getSymbolMetrics("BTC").orElseThrow();
+
+        assertEquals(130, metrics.getHigh24h(), 1e-9);
+        assertEquals(80, metrics.getLow24h(), 1e-9);
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. Week Of Minute Samples Matches Direct High/Low")
+    public void testLongHistory() {
+        int minutes = 8 * 24 * 60;
+        double[] prices = new double[minutes];
+        Random random = new Random(7);
+        for (int m = 0; m < minutes; m++) {
+            prices[m] = 100 + random.nextInt(1000);
+            riskAnalyticsService.recordPrice("ETH", BigDecimal.valueOf(prices[m]), m * MINUTE);
+        }
+
+        double high = 0;
+        double low = Double.MAX_VALUE;
+        for (int m = minutes - 24 * 60 - 1; m < minutes; m++) {
+            high = Math.max(high, prices[m]);
+            low = Math.min(low, prices[m]);
+        }
+        SeriesMetrics metrics = riskAnalyticsService.getSymbolMetrics("ETH").orElseThrow();
+
+        assertEquals(high, metrics.getHigh24h(), 1e-9);
+        assertEquals(low, metrics.getLow24h(), 1e-9);
+        assertEquals(prices[minutes - 1] / prices[minutes - 1 - 7 * 24 * 60] - 1, metrics.getReturn7d(), 1e-9);
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("8. Correlations Cover Only The Largest Holdings")
+    public void testCorrelationLimit() {
+        RiskAnalyticsServiceImpl limited = new RiskAnalyticsServiceImpl(5, 2);
+        limited.updateQuantity("BTC", BigDecimal.ONE);
+        limited.updateQuantity("ETH", BigDecimal.TEN);
+        limited.updateQuantity("DOGE", BigDecimal.ONE);
+        for (int minute = 0; minute < 10; minute++) {
+            double move = minute % 2 == 0 ? 1.01 : 0.98;
+            long time = minute * MINUTE;
+            limited.recordPrice("BTC", BigDecimal.valueOf(1000 * Math.pow(move, minute)), time);
+            limited.recordPrice("ETH", BigDecimal.valueOf(500 * Math.pow(move, minute)), time);
+            limited.recordPrice("DOGE", BigDecimal.valueOf(0.1 * Math.pow(move, minute)), time);
+        }
+
+        AnalyticsResponse analytics = limited.getAnalytics();
+
+        assertEquals(3, analytics.getSymbols().size());
+        assertEquals(Set.of("BTC", "ETH"), analytics.getCorrelations().keySet());
+        assertFalse(analytics.getCorrelations().get("BTC").containsKey("DOGE"));
+    }
+}
@@ -0,0 +1,252 @@
+package com.project.cryptowallet.service;
+
+import com.project.cryptowallet.client.RefreshBudget;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class SpotPriceCacheTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpotPriceCacheTest.class);
+
+    private static final long TTL = 1000;
+    private static final long STALE = 500;
+    private static final long BACKOFF = 200;
+
+    private final AtomicLong now = new AtomicLong(10_000);
+    private final AtomicInteger calls = new AtomicInteger();
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private final RefreshBudget budget = new RefreshBudget(6000);
+
+    private SpotPriceCache cache(int maxEntries) {
+        return new SpotPriceCache(symbol -> {
+            calls.incrementAndGet();
+            return new BigDecimal(calls.get());
+        }, TTL, STALE, BACKOFF, maxEntries, refreshes::add, budget, now::get);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Hits Within The TTL Do Not Call The Provider")
+    public void testHitWithinTtl() {
+        SpotPriceCache cache = cache(10);
+
+        assertEquals(new BigDecimal("1"), cache.get("BTC").getPrice());
+        now.addAndGet(TTL - 1);
+        assertEquals(new BigDecimal("1"), cache.get("BTC").getPrice());
+
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. Hot Keys Are Refreshed Ahead While The Old Price Is Served")
+    public void testRefreshAhead() {
+        SpotPriceCache cache = cache(10);
+        cache.get("BTC");
+
+        now.addAndGet(TTL);
+        assertEquals(new BigDecimal("1"), cache.get("BTC").getPrice());
+        assertEquals(new BigDecimal("1"), cache.get("BTC").getPrice());
+        // The first stale read reserves the refresh, the second one finds it pending
+        assertEquals(1, refreshes.size());
+
+        refreshes.forEach(Runnable::run);
+        assertEquals(2, calls.get());
+        assertEquals(new BigDecimal("2"), cache.get("BTC").getPrice());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Prices Past The Stale Window Are Loaded Synchronously")
+    public void testExpiry() {
+        SpotPriceCache cache = cache(10);
+        cache.get("BTC");
+
+        now.addAndGet(TTL + STALE);
+        assertEquals(new BigDecimal("2"), cache.get("BTC").getPrice());
+        assertTrue(refreshes.isEmpty());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("4. Failed Loads Are Backed Off, Not Cached")
+    public void testFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+        SpotPriceCache cache = new SpotPriceCache(symbol -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalArgumentException("Unknown symbol: " + symbol);
+            }
+            return BigDecimal.TEN;
+        }, TTL, STALE, BACKOFF, 10, refreshes::add, budget, now::get);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.get("XYZ"));
+        now.addAndGet(BACKOFF - 1);
+        assertThrows(IllegalArgumentException.class, () -> cache.get("XYZ"));
+        assertEquals(1, attempts.get());
+        assertEquals(0, cache.size());
+
+        now.incrementAndGet();
+        assertEquals(BigDecimal.TEN, cache.get("XYZ").getPrice());
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("5. The Least Recently Read Symbol Is Evicted")
+    public void testEviction() {
+        SpotPriceCache cache = cache(2);
+        cache.get("BTC");
+        now.incrementAndGet();
+        cache.get("ETH");
+        now.incrementAndGet();
+        cache.get("BTC");
+        now.incrementAndGet();
+        cache.get("SOL");
+
+        assertEquals(2, cache.size());
+        cache.get("BTC");
+        assertEquals(3, calls.get());
+        cache.get("ETH");
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("6. Concurrent Misses Share One Provider Call")
+    public void testRequestCollapsing() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SpotPriceCache cache = new SpotPriceCache(symbol -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return BigDecimal.ONE;
+        }, TTL, STALE, BACKOFF, 10, refreshes::add, budget, now::get);
+
+        int readers = 16;
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<SpotPriceCache.Entry>> results = new ArrayList<>();
+            results.add(pool.submit(() -> cache.get("BTC")));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < readers; i++) {
+                results.add(pool.submit(() -> cache.get("BTC")));
+            }
+            // Give the other readers time to find the in-flight load
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<SpotPriceCache.Entry> result : results) {
+                assertEquals(BigDecimal.ONE, result.get(5, TimeUnit.SECONDS).getPrice());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getLoads());
+    }
+
+    @Test
+    @Order(7)
+    @DisplayName("7. No Refresh Ahead Without Budget")
+    public void testRefreshAheadBudget() {
+        // Four calls per second, all spent by other traffic
+        RefreshBudget exhausted = new RefreshBudget(240);
+        SpotPriceCache cache = new SpotPriceCache(symbol -> {
+            calls.incrementAndGet();
+            return BigDecimal.ONE;
+        }, TTL, STALE, BACKOFF, 10, refreshes::add, exhausted, now::get);
+        cache.get("BTC");
+        now.addAndGet(TTL);
+        for (int i = 0; i < 4; i++) {
+            exhausted.consume(now.get());
+        }
+
+        assertEquals(BigDecimal.ONE, cache.get("BTC").getPrice());
+        assertTrue(refreshes.isEmpty());
+
+        // A quarter of a second later the budget has a token again
+        now.addAndGet(250);
+        cache.get("BTC");
+        assertEquals(1, refreshes.size());
+    }
+
+    @Test
+    @Order(8)
+    @DisplayName("8. Concurrent Stale Reads Queue A Single Refresh")
+    public void testConcurrentStaleReads() throws Exception {
+        Queue<Runnable> queued = new ConcurrentLinkedQueue<>();
+        SpotPriceCache cache = new SpotPriceCache(symbol -> {
+            calls.incrementAndGet();
+            return new BigDecimal(calls.get());
+        }, TTL, STALE, BACKOFF, 10, queued::add, budget, now::get);
+        cache.get("BTC");
+        now.addAndGet(TTL);
+
+        int readers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int read = 0; read < 1000; read++) {
+                        assertEquals(BigDecimal.ONE, cache.get("BTC").getPrice());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, queued.size());
+        queued.poll().run();
+        assertEquals(new BigDecimal("2"), cache.get("BTC").getPrice());
+        assertEquals(2, cache.getLoads());
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("9. Benchmark Cache Hits")
+    public void testHitLatency() {
+        SpotPriceCache cache = new SpotPriceCache(symbol -> BigDecimal.ONE, 60_000, 0, 0, 10, Runnable::run,
+                budget, System::currentTimeMillis);
+        cache.get("BTC");
+
+        int reads = 1_000_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < reads; i++) {
+            cache.get("BTC");
+        }
+        double micros = (System.nanoTime() - start) / 1000.0 / reads;
+
+        logger.info("Spot price cache hit: {} us", String.format("%.3f", micros));
+        assertTrue(micros < 100, "Cache hits should be well under a millisecond, took " + micros + " us");
+        assertEquals(1, cache.getLoads());
+    }
+}
@@ -0,0 +1,122 @@
+package com.project.cryptowallet.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.project.cryptowallet.dto.PriceTick;
+import org.junit.jupiter.api.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TickSeriesWriterTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TickSeriesWriterTest.class);
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    @Order(1)
+    @DisplayName("1. Columnar Series Decodes To The Original Ticks")
+    public void testColumnarRoundTrip() throws IOException {
+        List<PriceTick> ticks = generateTicks(2500);
+
+        byte[] encoded = encode(ticks, true, 1000);
+        JsonNode root = new ObjectMapper(new CBORFactory()).readTree(encoded);
+
+        assertEquals("BTC", root.get("symbol").asText());
+        assertEquals(3, root.get("blocks").size());
+        long time = 0;
+        long price = 0;
+        int index = 0;
+        for (JsonNode block : root.get("blocks")) {
+            for (int i = 0; i < block.get("dt").size(); i++, index++) {
+                time += block.get("dt").get(i).asLong();
+                price += block.get("dp").get(i).asLong();
+                assertEquals(TickSeriesWriter.toEpochMillis(ticks.get(index).getUpdatedAt()), time);
+                assertEquals(ticks.get(index).getPrice(), BigDecimal.valueOf(price, CurrencyConversion.USD.getScale()));
+            }
+        }
+        assertEquals(ticks.size(), index);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("2. JSON Rows Keep The Existing Shape")
+    public void testJsonRows() throws IOException {
+        List<PriceTick> ticks = generateTicks(3);
+
+        JsonNode root = new ObjectMapper().readTree(encode(ticks, false, 2));
+
+        assertEquals(3, root.get("ticks").size());
+        assertEquals(ticks.get(2).getPrice(), root.get("ticks").get(2).get("price").decimalValue());
+        assertEquals(ticks.get(2).getUpdatedAt().toString(), root.get("ticks").get(2).get("updatedAt").asText());
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("3. Payload Size And Encode Time Against JSON")
+    public void testPayloadBenchmark() throws IOException {
+        List<PriceTick> ticks = generateTicks(200_000);
+
+        // Warm up both paths before timing
+        for (int i = 0; i < 3; i++) {
+            encode(ticks, false, 5000);
+            encode(ticks, true, 5000);
+        }
+        long jsonStart = System.nanoTime();
+        byte[] json = encode(ticks, false, 5000);
+        long jsonNanos = System.nanoTime() - jsonStart;
+        long cborStart = System.nanoTime();
+        byte[] cbor = encode(ticks, true, 5000);
+        long cborNanos = System.nanoTime() - cborStart;
+
+        logger.info("{} ticks: JSON {} bytes in {} ms, columnar CBOR {} bytes in {} ms",
+                ticks.size(), json.length, jsonNanos / 1_000_000, cbor.length, cborNanos / 1_000_000);
+        assertTrue(cbor.length * 5 < json.length, "CBOR " + cbor.length + " bytes vs JSON " + json.length);
+    }
+
+    private static byte[] encode(List<PriceTick> ticks, boolean columnar, int pageSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TickSeriesWriter writer = columnar ? TickSeriesWriter.columnar(out) : TickSeriesWriter.json(out);
+        writer.begin("BTC");
+        for (int from = 0; from < ticks.size(); from += pageSize) {
+            writer.writePage(ticks.subList(from, Math.min(ticks.size(), from + pageSize)));
+        }
+        writer.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * One tick roughly every 10 seconds, random walk around 50,000 in cents.
+     */
+    private static List<PriceTick> generateTicks(int count) {
+        Random random = new Random(7);
+        List<PriceTick> ticks = new ArrayList<>(count);
+        long cents = 5_000_000;
+        LocalDateTime time = START;
+        for (int i = 0; i < count; i++) {
+            cents += random.nextInt(2001) - 1000;
+            time = time.plusSeconds(9 + random.nextInt(3));
+            ticks.add(tick(i + 1, time, BigDecimal.valueOf(cents, 2)));
+        }
+        return ticks;
+    }
+
+    private static PriceTick tick(long id, LocalDateTime time, BigDecimal price) {
+        return new PriceTick() {
+            public Long getId() { return id; }
+            public BigDecimal getPrice() { return price; }
+            public LocalDateTime getUpdatedAt() { return time; }
+        };
+    }
+}
@@ -1,9 +1,13 @@
 package com.project.cryptowallet.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.cryptowallet.client.CoinCapClient;
+import com.project.cryptowallet.client.HedgedPriceClient;
+import com.project.cryptowallet.client.RefreshBudget;
+import com.project.cryptowallet.dto.AssetHolding;
+import com.project.cryptowallet.dto.SymbolTotal;
 import com.project.cryptowallet.dto.WalletSummaryResponse;
 import com.project.cryptowallet.model.WalletAsset;
-import com.project.cryptowallet.model.WalletAssetHistory;
 import com.project.cryptowallet.repository.WalletAssetHistoryRepository;
 import com.project.cryptowallet.repository.WalletAssetRepository;
 import org.junit.jupiter.api.*;
@@ -40,22 +44,46 @@ public class WalletServiceImplTest {
     @Mock
     private ScheduledExecutorService scheduledExecutorService;
 
+    @Mock
+    private PriceAlertService priceAlertService;
+
+    private AdaptiveRefreshScheduler refreshScheduler;
+
+    private HedgedPriceClient priceClient;
+
     private WalletServiceImpl walletService;
 
     @BeforeEach
     public void setup() {
         MockitoAnnotations.openMocks(this);
 
+        RefreshBudget budget = new RefreshBudget(120);
+        refreshScheduler = new AdaptiveRefreshScheduler(10, 2, 600,
+                BigDecimal.TEN, BigDecimal.valueOf(10000), 30, budget);
+        // A mock would answer false for the provider's default supports()
+        lenient().when(coinCapClient.supports(anyString())).thenReturn(true);
+        priceClient = new HedgedPriceClient(List.of(coinCapClient), budget);
+
         walletService = new WalletServiceImpl(
                 walletAssetRepository,
                 walletAssetHistoryRepository,
                 coinCapClient,
-                10
+                priceClient,
+                refreshScheduler,
+                new PriceSnapshotStore(new ObjectMapper(), ""),
+                new RiskAnalyticsServiceImpl(100, 20),
+                priceAlertService,
+                new FxRateServiceImpl(coinCapClient, 300)
         );
 
         ReflectionTestUtils.setField(walletService, "scheduler", scheduledExecutorService);
     }
 
+    @AfterEach
+    public void tearDown() {
+        priceClient.stop();
+    }
+
     @Test
     @Order(1)
     @DisplayName("1. Save Wallet Assets")
@@ -78,40 +106,38 @@ public class WalletServiceImplTest {
         symbolToIdMap.put("BTC", "bitcoin");
         symbolToIdMap.put("ETH", "ethereum");
 
-        List<WalletAsset> assets = Arrays.asList(
-                new WalletAsset(BigDecimal.TEN, 1L, "BTC", BigDecimal.ONE, null),
-                new WalletAsset(BigDecimal.valueOf(500), 2L, "ETH", BigDecimal.valueOf(2), null)
+        List<AssetHolding> holdings = Arrays.asList(
+                holding(1L, "BTC", BigDecimal.ONE),
+                holding(2L, "ETH", BigDecimal.valueOf(2)),
+                holding(3L, "BTC", BigDecimal.valueOf(3))
         );
 
         when(coinCapClient.fetchValidAssets()).thenReturn(symbolToIdMap);
-        when(walletAssetRepository.findAll()).thenReturn(assets);
+        when(walletAssetRepository.findAllHoldings()).thenReturn(holdings);
         when(coinCapClient.getLatestPrice(anyString())).thenReturn(BigDecimal.valueOf(50000));
 
         walletService.updatePricesConcurrently();
 
-        verify(walletAssetRepository, times(assets.size())).save(any(WalletAsset.class));
-        verify(walletAssetHistoryRepository, times(assets.size())).save(any(WalletAssetHistory.class));
+        // One provider call and one bulk update per symbol, one history row per wallet row
+        verify(coinCapClient, times(1)).getLatestPrice("bitcoin");
+        verify(walletAssetRepository, times(1)).updateLatestPrice("BTC", BigDecimal.valueOf(50000));
+        verify(walletAssetRepository, times(1)).updateLatestPrice("ETH", BigDecimal.valueOf(50000));
+        verify(walletAssetHistoryRepository, times(2)).saveAll(anyList());
+        verify(walletAssetRepository, times(3)).getReferenceById(anyLong());
+        verify(walletAssetRepository, never()).findAll();
     }
 
     @Test
     @Order(3)
     @DisplayName("3. Get Wallet Summary")
     public void testGetWalletSummary() {
-        Map<String, String> symbolToIdMap = new HashMap<>();
-        symbolToIdMap.put("BTC", "bitcoin");
-        symbolToIdMap.put("ETH", "ethereum");
-
-        WalletAsset asset1 = new WalletAsset(BigDecimal.ZERO, 1L, "BTC", BigDecimal.valueOf(0.5), null);
-        WalletAsset asset2 = new WalletAsset(BigDecimal.ZERO, 2L, "ETH", BigDecimal.valueOf(2), null);
-
-        List<WalletAsset> assets = Arrays.asList(asset1, asset2);
+        // Values come from the stored latest prices
+        when(walletAssetRepository.sumBySymbol()).thenReturn(Arrays.asList(
+                total("BTC", BigDecimal.valueOf(0.5), BigDecimal.valueOf(25000)),
+                total("ETH", BigDecimal.valueOf(2), BigDecimal.valueOf(6000)),
+                total("NEW", BigDecimal.ONE, null)));
 
-        when(walletAssetRepository.findAll()).thenReturn(assets);
-        when(coinCapClient.fetchValidAssets()).thenReturn(symbolToIdMap);
-        when(coinCapClient.getLatestPrice("bitcoin")).thenReturn(BigDecimal.valueOf(50000));
-        when(coinCapClient.getLatestPrice("ethereum")).thenReturn(BigDecimal.valueOf(3000));
-
-        WalletSummaryResponse summary = walletService.getWalletSummary(LocalDateTime.now());
+        WalletSummaryResponse summary = walletService.getWalletSummary(LocalDateTime.now(), null);
 
         BigDecimal expectedTotalValue = BigDecimal.valueOf(50000 * 0.5 + 3000 * 2)
                 .setScale(2, RoundingMode.HALF_UP);
@@ -119,9 +145,9 @@ public class WalletServiceImplTest {
         assertEquals(expectedTotalValue, summary.getTotalValue(),
                 "Total wallet value should match the expected calculation");
 
-        verify(walletAssetRepository, atLeastOnce()).findAll();
-        verify(coinCapClient, times(1)).getLatestPrice("bitcoin");
-        verify(coinCapClient, times(1)).getLatestPrice("ethereum");
+        verify(walletAssetRepository, times(1)).sumBySymbol();
+        verify(walletAssetRepository, never()).findAll();
+        verify(coinCapClient, never()).getLatestPrice(anyString());
     }
 
     @Test
@@ -129,7 +155,8 @@ public class WalletServiceImplTest {
     @DisplayName("4. Set Update Frequency")
     public void testSetUpdateFrequency() {
         walletService.setUpdateFrequency(20);
-        verify(scheduledExecutorService).shutdownNow();
+        verify(scheduledExecutorService, never()).shutdownNow();
+        assertEquals(20000, refreshScheduler.getBaseIntervalMillis());
     }
 
     @Test
@@ -152,13 +179,44 @@ public class WalletServiceImplTest {
     @DisplayName("6. Process Asset Price Update with Non-Existent Symbol")
     public void testProcessAssetPriceUpdateWithNonExistentSymbol() {
         Map<String, String> symbolToIdMap = new HashMap<>();
-        WalletAsset asset = new WalletAsset(BigDecimal.TEN, 1L, "NONEXISTENT", BigDecimal.ONE, null);
-
         when(coinCapClient.fetchValidAssets()).thenReturn(symbolToIdMap);
-        when(walletAssetRepository.findAll()).thenReturn(Arrays.asList(asset));
+        when(walletAssetRepository.findAllHoldings()).thenReturn(Arrays.asList(holding(1L, "NONEXISTENT", BigDecimal.ONE)));
+
+        walletService.updatePricesConcurrently();
+
+        verify(walletAssetRepository, never()).updateLatestPrice(anyString(), any());
+        verify(walletAssetHistoryRepository, never()).saveAll(anyList());
+    }
 
+    @Test
+    @Order(7)
+    @DisplayName("7. Holdings Are Cached Until Assets Are Saved")
+    public void testHoldingsCacheInvalidation() {
+        when(coinCapClient.fetchValidAssets()).thenReturn(new HashMap<>());
+        when(walletAssetRepository.findAllHoldings()).thenReturn(Arrays.asList(holding(1L, "BTC", BigDecimal.ONE)));
+
+        walletService.updatePricesConcurrently();
+        walletService.updatePricesConcurrently();
+        verify(walletAssetRepository, times(1)).findAllHoldings();
+
+        walletService.saveAssets(Arrays.asList(new WalletAsset(BigDecimal.TEN, 2L, "BTC", BigDecimal.ONE, null)));
         walletService.updatePricesConcurrently();
+        verify(walletAssetRepository, times(2)).findAllHoldings();
+    }
+
+    private static AssetHolding holding(Long id, String symbol, BigDecimal quantity) {
+        return new AssetHolding() {
+            public Long getId() { return id; }
+            public String getSymbol() { return symbol; }
+            public BigDecimal getQuantity() { return quantity; }
+        };
+    }
 
-        verify(walletAssetRepository, never()).save(asset);
+    private static SymbolTotal total(String symbol, BigDecimal quantity, BigDecimal value) {
+        return new SymbolTotal() {
+            public String getSymbol() { return symbol; }
+            public BigDecimal getQuantity() { return quantity; }
+            public BigDecimal getValue() { return value; }
+        };
     }
 }